@@ -0,0 +1,67 @@
+package dev.therealdan.realtimechess.benchmarks;
+
+import dev.therealdan.realtimechess.game.Board;
+import dev.therealdan.realtimechess.game.MoveList;
+import dev.therealdan.realtimechess.game.Piece;
+import dev.therealdan.realtimechess.game.VirtualClock;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardBenchmark {
+
+    @Param({"0", "12", "24", "48"})
+    public int plies;
+
+    private Board board;
+    private int move = -1;
+
+    @Setup
+    public void setup() {
+        board = Positions.create(plies, new VirtualClock());
+        for (Piece.Colour colour : new Piece.Colour[]{Piece.Colour.WHITE, Piece.Colour.BLACK}) {
+            MoveList moves = Positions.getMoves(board, colour);
+            if (!moves.isEmpty()) {
+                move = moves.get(0);
+                break;
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void invalidate() {
+        if (move < 0) return;
+        board.make(move);
+        board.unmake();
+    }
+
+    @Benchmark
+    public void getPossibleMoves(Blackhole blackhole) {
+        for (Piece piece : board.getPieces())
+            blackhole.consume(board.getPossibleMoves(piece));
+    }
+
+    @Benchmark
+    public boolean isChecked() {
+        return board.isChecked(Piece.Colour.WHITE);
+    }
+
+    @Benchmark
+    public boolean isCheckmate() {
+        return board.isCheckmate(Piece.Colour.WHITE);
+    }
+
+    @Benchmark
+    public Board copy() {
+        return board.copy();
+    }
+
+    @Benchmark
+    public String getNotation() {
+        return board.getNotation();
+    }
+}
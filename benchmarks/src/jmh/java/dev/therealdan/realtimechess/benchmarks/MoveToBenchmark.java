@@ -0,0 +1,39 @@
+package dev.therealdan.realtimechess.benchmarks;
+
+import dev.therealdan.realtimechess.game.Board;
+import dev.therealdan.realtimechess.game.Piece;
+import dev.therealdan.realtimechess.game.VirtualClock;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, batchSize = MoveToBenchmark.BATCH)
+@Measurement(iterations = 10, batchSize = MoveToBenchmark.BATCH)
+public class MoveToBenchmark {
+
+    static final int BATCH = 1000;
+
+    @Param({"0", "12", "24", "48"})
+    public int plies;
+
+    private Board[] boards = new Board[BATCH];
+    private int move;
+    private int index;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        Board board = Positions.create(plies, new VirtualClock());
+        move = Positions.getMoves(board, Piece.Colour.WHITE).get(0);
+        for (int i = 0; i < BATCH; i++)
+            boards[i] = board.copy();
+        index = 0;
+    }
+
+    @Benchmark
+    public boolean moveTo() {
+        return boards[index++].moveTo(move);
+    }
+}
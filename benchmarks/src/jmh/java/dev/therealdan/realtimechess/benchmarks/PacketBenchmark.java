@@ -0,0 +1,38 @@
+package dev.therealdan.realtimechess.benchmarks;
+
+import dev.therealdan.realtimechess.game.Piece;
+import dev.therealdan.realtimechess.game.Position;
+import dev.therealdan.realtimechess.game.VirtualClock;
+import dev.therealdan.realtimechess.network.packets.BoardPacket;
+import dev.therealdan.realtimechess.network.packets.MovePacket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PacketBenchmark {
+
+    @Param({"0", "12", "24", "48"})
+    public int plies;
+
+    private String board;
+    private String move;
+
+    @Setup
+    public void setup() {
+        board = new BoardPacket(Positions.create(plies, new VirtualClock())).getData();
+        move = new MovePacket(Piece.Type.KNIGHT, Position.byNotation("g1"), Position.byNotation("f3")).getData();
+    }
+
+    @Benchmark
+    public BoardPacket parseBoard() {
+        return BoardPacket.parse(board);
+    }
+
+    @Benchmark
+    public MovePacket parseMove() {
+        return MovePacket.parse(move);
+    }
+}
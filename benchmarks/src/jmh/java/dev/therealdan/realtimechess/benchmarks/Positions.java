@@ -0,0 +1,38 @@
+package dev.therealdan.realtimechess.benchmarks;
+
+import dev.therealdan.realtimechess.game.Board;
+import dev.therealdan.realtimechess.game.MoveList;
+import dev.therealdan.realtimechess.game.Piece;
+import dev.therealdan.realtimechess.game.VirtualClock;
+
+import java.util.Random;
+
+public class Positions {
+
+    public static Board create(int plies, VirtualClock clock) {
+        Random random = new Random(plies);
+        Board board = Board.standardBoard(clock);
+        Piece.Colour colour = Piece.Colour.WHITE;
+        for (int ply = 0; ply < plies; ply++) {
+            clock.advance(3000);
+            Piece promoting = board.getPromoting();
+            if (promoting != null)
+                board.promote(promoting, Piece.Type.QUEEN);
+
+            MoveList moves = getMoves(board, colour);
+            if (moves.isEmpty()) break;
+            board.moveTo(moves.get(random.nextInt(moves.size())));
+            colour = colour.opposite();
+        }
+        clock.advance(3000);
+        return board;
+    }
+
+    public static MoveList getMoves(Board board, Piece.Colour colour) {
+        MoveList moves = new MoveList();
+        for (Piece piece : board.getPieces())
+            if (piece.getColour().equals(colour))
+                board.getMoves(piece, moves);
+        return moves;
+    }
+}
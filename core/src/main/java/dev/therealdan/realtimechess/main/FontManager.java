@@ -3,23 +3,58 @@ package dev.therealdan.realtimechess.main;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 public class FontManager implements Disposable {
 
+    private static final int MAX_FONTS = 8;
+    private static final int MAX_LAYOUTS = 256;
+    private static final long RESIZE_DELAY = 250;
+
     private FreeTypeFontGenerator freeTypeFontGenerator;
 
-    private HashMap<Integer, BitmapFont> fonts = new HashMap<>();
+    private LinkedHashMap<Integer, Font> fonts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Font> eldest) {
+            if (size() <= MAX_FONTS) return false;
+            evicted.add(eldest.getValue());
+            return true;
+        }
+    };
+    private List<Font> evicted = new ArrayList<>();
 
     public float scale;
+    private float targetScale;
+    private long resizedAt;
 
     public FontManager() {
         freeTypeFontGenerator = new FreeTypeFontGenerator(Gdx.files.internal("fonts/Montserrat-Medium.ttf"));
+        scale = targetScale = Gdx.graphics.getWidth() / 1000f;
+    }
+
+    public void resize(int width) {
+        targetScale = width / 1000f;
+        resizedAt = TimeUtils.millis();
+    }
+
+    public void update() {
+        if (scale != targetScale && TimeUtils.timeSinceMillis(resizedAt) >= RESIZE_DELAY)
+            scale = targetScale;
+    }
+
+    public boolean isResizing() {
+        return scale != targetScale;
     }
 
     public void draw(SpriteBatch batch, String text, float x, float y, Color color) {
@@ -27,44 +62,86 @@ public class FontManager implements Disposable {
     }
 
     public void draw(SpriteBatch batch, String text, float x, float y, int fontSize, Color color) {
-        BitmapFont font = getFont(fontSize);
-        font.setColor(color);
-        font.draw(batch, text, x, y, 0, Align.left, false);
+        Font font = getFont(fontSize);
+        font.draw(batch, font.getLayout(text), x, y, color);
     }
 
     public void draw(SpriteBatch batch, String text, float x, float y, float width, int fontSize, Color color) {
-        BitmapFont font = getFont(fontSize);
+        BitmapFont font = getFont(fontSize).bitmapFont;
         font.setColor(color);
         font.draw(batch, text, x, y, width, Align.left, true);
     }
 
     public void center(SpriteBatch batch, String text, float x, float y, int fontSize, Color color) {
-        BitmapFont font = getFont(fontSize);
-        font.setColor(color);
-        font.draw(batch, text, x, y + font.getCapHeight() / 2f, 0, Align.center, false);
+        Font font = getFont(fontSize);
+        GlyphLayout layout = font.getLayout(text);
+        font.draw(batch, layout, x - layout.width / 2f, y + font.bitmapFont.getCapHeight() / 2f, color);
+    }
+
+    public float getWidth(String text, int fontSize) {
+        return getFont(fontSize).getLayout(text).width;
     }
 
-    public float getWidth(SpriteBatch batch, String text, int fontSize) {
-        return getFont(fontSize).draw(batch, text, Gdx.graphics.getWidth(), 0).width;
+    public float getHeight(String text, int fontSize) {
+        return getFont(fontSize).getLayout(text).height;
     }
 
-    public float getHeight(SpriteBatch batch, String text, int fontSize) {
-        return getFont(fontSize).draw(batch, text, Gdx.graphics.getWidth(), 0).height;
+    public void disposeEvicted() {
+        for (Font font : evicted)
+            font.bitmapFont.dispose();
+        evicted.clear();
     }
 
     @Override
     public void dispose() {
+        evicted.addAll(fonts.values());
+        fonts.clear();
+        disposeEvicted();
         freeTypeFontGenerator.dispose();
     }
 
-    private void generateFont(int fontSize) {
-        FreeTypeFontGenerator.FreeTypeFontParameter freeTypeFontParameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        freeTypeFontParameter.size = fontSize;
-        fonts.put(fontSize, freeTypeFontGenerator.generateFont(freeTypeFontParameter));
+    private Font getFont(int fontSize) {
+        Font font = fonts.get(fontSize);
+        if (font == null) {
+            FreeTypeFontGenerator.FreeTypeFontParameter freeTypeFontParameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+            freeTypeFontParameter.size = fontSize;
+            font = new Font(freeTypeFontGenerator.generateFont(freeTypeFontParameter));
+            fonts.put(fontSize, font);
+        }
+        return font;
     }
 
-    private BitmapFont getFont(int fontSize) {
-        if (!fonts.containsKey(fontSize)) generateFont(fontSize);
-        return fonts.get(fontSize);
+    private static class Font {
+
+        private final BitmapFont bitmapFont;
+
+        private final LinkedHashMap<String, GlyphLayout> layouts = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GlyphLayout> eldest) {
+                return size() > MAX_LAYOUTS;
+            }
+        };
+
+        private Font(BitmapFont bitmapFont) {
+            this.bitmapFont = bitmapFont;
+        }
+
+        private GlyphLayout getLayout(String text) {
+            GlyphLayout layout = layouts.get(text);
+            if (layout == null) {
+                layout = new GlyphLayout();
+                layout.setText(bitmapFont, text, Color.WHITE, 0, Align.left, false);
+                layouts.put(text, layout);
+            }
+            return layout;
+        }
+
+        private void draw(SpriteBatch batch, GlyphLayout layout, float x, float y, Color color) {
+            BitmapFontCache cache = bitmapFont.getCache();
+            cache.clear();
+            cache.addText(layout, x, y);
+            cache.tint(color);
+            cache.draw(batch);
+        }
     }
 }
@@ -0,0 +1,133 @@
+package dev.therealdan.realtimechess.main;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+public class Profiler {
+
+    private static final int FRAMES = 240;
+    private static final long REFRESH = 250;
+
+    private GLProfiler glProfiler;
+    private ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private boolean visible = false;
+
+    private long[] frameTimes = new long[FRAMES];
+    private long[] rulesTimes = new long[FRAMES];
+    private long[] sorted = new long[FRAMES];
+    private int frames = 0;
+
+    private long frameStart, rulesStart, rules, allocatedStart;
+    private int drawCalls, textureBindings, shaderSwitches;
+    private long allocated;
+
+    private String[] lines = new String[0];
+    private String report;
+    private long lastRefresh;
+
+    public Profiler() {
+        glProfiler = new GLProfiler(Gdx.graphics);
+    }
+
+    public void toggle() {
+        visible = !visible;
+        frames = 0;
+        lines = new String[0];
+        if (visible) {
+            glProfiler.enable();
+        } else {
+            glProfiler.disable();
+        }
+    }
+
+    public void beginFrame() {
+        if (!visible) return;
+        glProfiler.reset();
+        rules = 0;
+        allocatedStart = getAllocatedBytes();
+        frameStart = TimeUtils.nanoTime();
+    }
+
+    public void beginRules() {
+        if (visible) rulesStart = TimeUtils.nanoTime();
+    }
+
+    public void endRules() {
+        if (visible) rules += TimeUtils.nanoTime() - rulesStart;
+    }
+
+    public void endFrame() {
+        if (!visible) return;
+        int index = frames++ % FRAMES;
+        frameTimes[index] = TimeUtils.nanoTime() - frameStart;
+        rulesTimes[index] = rules;
+        allocated = allocatedStart >= 0 ? getAllocatedBytes() - allocatedStart : -1;
+        drawCalls = glProfiler.getDrawCalls();
+        textureBindings = glProfiler.getTextureBindings();
+        shaderSwitches = glProfiler.getShaderSwitches();
+    }
+
+    public void render(RealTimeChessApp app) {
+        if (!visible) return;
+        if (TimeUtils.timeSinceMillis(lastRefresh) >= REFRESH) {
+            lastRefresh = TimeUtils.millis();
+            refresh();
+        }
+
+        int fontSize = (int) (12f * app.font.scale);
+        float x = -Gdx.graphics.getWidth() / 2f + fontSize;
+        float y = Gdx.graphics.getHeight() / 2f - fontSize;
+        for (String line : lines) {
+            app.font.draw(app.batch, line, x, y, fontSize, Color.YELLOW);
+            y -= fontSize * 1.5f;
+        }
+    }
+
+    private void refresh() {
+        int count = Math.min(frames, FRAMES);
+        if (count == 0) return;
+
+        long rulesTotal = 0, frameTotal = 0;
+        for (int i = 0; i < count; i++) {
+            rulesTotal += rulesTimes[i];
+            frameTotal += frameTimes[i];
+        }
+        System.arraycopy(frameTimes, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+
+        lines = new String[]{
+                String.format("FRAME p50 %.2fms p95 %.2fms p99 %.2fms max %.2fms", millis(percentile(count, 0.5)), millis(percentile(count, 0.95)), millis(percentile(count, 0.99)), millis(sorted[count - 1])),
+                String.format("RULES %.2fms DRAW %.2fms", millis(rulesTotal / count), millis((frameTotal - rulesTotal) / count)),
+                "DRAW CALLS " + drawCalls + " TEXTURE BINDS " + textureBindings + " SHADER SWITCHES " + shaderSwitches,
+                allocated >= 0 ? "ALLOCATED " + allocated + " BYTES" : "ALLOCATED N/A",
+                report != null ? "BOT " + report.toUpperCase() : "",
+        };
+    }
+
+    private long percentile(int count, double percentile) {
+        return sorted[Math.min(count - 1, (int) (count * percentile))];
+    }
+
+    private double millis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+
+    private long getAllocatedBytes() {
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) return -1;
+        return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    public void setReport(String report) {
+        this.report = report;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+}
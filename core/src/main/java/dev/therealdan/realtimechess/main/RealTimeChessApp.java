@@ -2,10 +2,12 @@ package dev.therealdan.realtimechess.main;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.ScreenUtils;
+import dev.therealdan.realtimechess.screens.AScreen;
 import dev.therealdan.realtimechess.screens.MainMenuScreen;
 
 public class RealTimeChessApp extends Game {
@@ -14,6 +16,7 @@ public class RealTimeChessApp extends Game {
     public Settings settings;
     public FontManager font;
     public Textures textures;
+    public Profiler profiler;
 
     public ShapeRenderer shapeRenderer;
     public SpriteBatch batch;
@@ -24,6 +27,7 @@ public class RealTimeChessApp extends Game {
         settings = new Settings(preferences);
         font = new FontManager();
         textures = new Textures();
+        profiler = new Profiler();
 
         shapeRenderer = new ShapeRenderer();
         batch = new SpriteBatch();
@@ -34,9 +38,24 @@ public class RealTimeChessApp extends Game {
     @Override
     public void render() {
         ScreenUtils.clear(0, 0.2f, 0.1f, 1);
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) profiler.toggle();
+        profiler.beginFrame();
+        font.update();
         batch.begin();
         super.render();
         batch.end();
+        profiler.endFrame();
+        if (profiler.isVisible()) {
+            batch.begin();
+            profiler.render(this);
+            batch.end();
+        }
+        font.disposeEvicted();
+
+        boolean onDemand = settings.getToggle(Settings.Setting.ON_DEMAND_RENDERING);
+        Gdx.graphics.setContinuousRendering(!onDemand);
+        if (onDemand && (font.isResizing() || profiler.isVisible() || ((AScreen) getScreen()).isAnimating()))
+            Gdx.graphics.requestRendering();
     }
 
     @Override
@@ -49,16 +68,14 @@ public class RealTimeChessApp extends Game {
     public void dispose() {
         super.dispose();
         font.dispose();
+        textures.dispose();
         shapeRenderer.dispose();
         batch.dispose();
     }
 
     @Override
     public void resize(int width, int height) {
-        shapeRenderer.dispose();
-        batch.dispose();
-        shapeRenderer = new ShapeRenderer();
-        batch = new SpriteBatch();
+        font.resize(width);
         super.resize(width, height);
     }
 }
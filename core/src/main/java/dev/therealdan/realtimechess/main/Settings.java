@@ -5,6 +5,7 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.graphics.Color;
 import dev.therealdan.realtimechess.game.Piece;
+import dev.therealdan.realtimechess.render.PieceRenderer;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -24,6 +25,10 @@ public class Settings {
         setToggle(Setting.PREFERENCE, preferences.getBoolean("settings.preference", true));
         setNumber(Setting.PORT, preferences.getLong("settings.port", 42000));
         setString(Setting.IP_ADDRESS, preferences.getString("settings.address", ""));
+        setToggle(Setting.ON_DEMAND_RENDERING, preferences.getBoolean("settings.ondemand", true));
+        setNumber(Setting.BOT_THINK_TIME, preferences.getLong("settings.bot.thinktime", 250));
+        setNumber(Setting.BOT_THREADS, preferences.getLong("settings.bot.threads", Runtime.getRuntime().availableProcessors()));
+        setNumber(Setting.BOT_HASH, preferences.getLong("settings.bot.hash", 16));
     }
 
     public void render(RealTimeChessApp app, float oy, float oheight) {
@@ -48,7 +53,7 @@ public class Settings {
                     app.batch.setColor(Color.WHITE);
                     app.batch.draw(Mouse.containsMouse(x, y, width, height) ? app.textures.brown : app.textures.firebrick, x, y, width, height);
                     app.font.center(app.batch, setting.getName(), x + width / 2f, y + height / 2f, (int) (16f * app.font.scale), Color.WHITE);
-                    Piece.render(app, x + width - height, y, height, Piece.Type.PAWN, (getToggle(setting) ? Piece.Colour.WHITE : Piece.Colour.BLACK).getColor());
+                    PieceRenderer.render(app, x + width - height, y, height, Piece.Type.PAWN, PieceRenderer.getColor(getToggle(setting) ? Piece.Colour.WHITE : Piece.Colour.BLACK));
                     break;
                 case STRING:
                 case NUMBER:
@@ -56,7 +61,7 @@ public class Settings {
                     app.batch.setColor(Color.WHITE);
                     app.batch.draw(Mouse.containsMouse(x, y, width, height) ? app.textures.brown : app.textures.firebrick, x, y, width, height);
                     spacing = 5f;
-                    width = owidth - height - app.font.getWidth(app.batch, setting.getName(), (int) (16f * app.font.scale));
+                    width = owidth - height - app.font.getWidth(setting.getName(), (int) (16f * app.font.scale));
                     app.font.center(app.batch, setting.getName(), x + (owidth - width) / 2f, y + height / 2f, (int) (16f * app.font.scale), Color.WHITE);
                     app.batch.draw(app.textures.white, x + (owidth - width), y + spacing, width - spacing, height - spacing * 2f);
                     app.font.center(app.batch, getString(setting) + (setting.equals(editing) && System.currentTimeMillis() % 1500 > 750 ? "|" : ""), x + (owidth - width) + width / 2f, y + height / 2f, (int) (16f * app.font.scale), Color.BLACK);
@@ -97,12 +102,17 @@ public class Settings {
                 return false;
             }
             if (editing.getType().equals(Type.NUMBER) && !"1234567890".contains(key)) return false;
+            if (editing.getType().equals(Type.NUMBER) && parse(getString(editing) + key, Long.MAX_VALUE) > editing.getMaximum()) return false;
             setString(editing, getString(editing) + key);
         }
 
         return false;
     }
 
+    public boolean isEditing() {
+        return editing != null;
+    }
+
     public boolean touchDown() {
         editing = null;
         if (hovering == null) return false;
@@ -128,6 +138,10 @@ public class Settings {
         preferences.putBoolean("settings.preference", getToggle(Setting.PREFERENCE));
         preferences.putLong("settings.port", getNumber(Setting.PORT));
         preferences.putString("settings.address", getString(Setting.IP_ADDRESS));
+        preferences.putBoolean("settings.ondemand", getToggle(Setting.ON_DEMAND_RENDERING));
+        preferences.putLong("settings.bot.thinktime", getNumber(Setting.BOT_THINK_TIME));
+        preferences.putLong("settings.bot.threads", getNumber(Setting.BOT_THREADS));
+        preferences.putLong("settings.bot.hash", getNumber(Setting.BOT_HASH));
         preferences.flush();
     }
 
@@ -156,12 +170,21 @@ public class Settings {
     }
 
     public long getNumber(Setting setting) {
-        return Long.parseLong(strings.get(setting));
+        return Math.max(setting.getMinimum(), Math.min(parse(strings.get(setting), setting.getMinimum()), setting.getMaximum()));
+    }
+
+    private long parse(String value, long fallback) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
     }
 
     public enum Setting {
         USER, USERNAME,
         PREFERENCE, PORT, IP_ADDRESS,
+        ON_DEMAND_RENDERING, BOT_THINK_TIME, BOT_THREADS, BOT_HASH,
         BACK;
 
         public Type getType() {
@@ -172,14 +195,46 @@ public class Settings {
                 case USERNAME:
                     return Type.STRING;
                 case PREFERENCE:
+                case ON_DEMAND_RENDERING:
                     return Type.TOGGLE;
                 case PORT:
+                case BOT_THINK_TIME:
+                case BOT_THREADS:
+                case BOT_HASH:
                     return Type.NUMBER;
                 case IP_ADDRESS:
                     return Type.STRING;
             }
         }
 
+        public long getMinimum() {
+            switch (this) {
+                default:
+                    return 0;
+                case PORT:
+                case BOT_THREADS:
+                case BOT_HASH:
+                    return 1;
+                case BOT_THINK_TIME:
+                    return 10;
+            }
+        }
+
+        public long getMaximum() {
+            switch (this) {
+                default:
+                    return 0;
+                case PORT:
+                    return 65535;
+                case BOT_THINK_TIME:
+                    return 10000;
+                case BOT_THREADS:
+                    return Runtime.getRuntime().availableProcessors();
+                case BOT_HASH:
+                    return 256;
+            }
+        }
+
         public String getName() {
             return toString().replace("_", " ");
         }
@@ -1,12 +1,53 @@
 package dev.therealdan.realtimechess.main;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import dev.therealdan.realtimechess.game.Bot;
+import dev.therealdan.realtimechess.game.Piece;
+
+import java.util.EnumMap;
 
 public class Textures {
 
-    public Texture black = new Texture("images/color/black.png");
-    public Texture brown = new Texture("images/color/brown.png");
-    public Texture firebrick = new Texture("images/color/firebrick.png");
-    public Texture navy = new Texture("images/color/navy.png");
-    public Texture white = new Texture("images/color/white.png");
+    private TextureAtlas atlas = new TextureAtlas("atlas/textures.atlas");
+
+    public TextureRegion black = atlas.findRegion("color/black");
+    public TextureRegion brown = atlas.findRegion("color/brown");
+    public TextureRegion firebrick = atlas.findRegion("color/firebrick");
+    public TextureRegion navy = atlas.findRegion("color/navy");
+    public TextureRegion white = atlas.findRegion("color/white");
+    public TextureRegion circle = atlas.findRegion("color/circle");
+
+    private EnumMap<Piece.Type, TextureRegion> pieces = new EnumMap<>(Piece.Type.class);
+    private EnumMap<Piece.Colour, TextureRegion> squares = new EnumMap<>(Piece.Colour.class);
+    private EnumMap<Bot.Difficulty, TextureRegion> bots = new EnumMap<>(Bot.Difficulty.class);
+
+    public Textures() {
+        for (Piece.Type type : Piece.Type.values())
+            pieces.put(type, atlas.findRegion("pieces/" + type.toString().toLowerCase()));
+        for (Piece.Colour colour : Piece.Colour.values())
+            squares.put(colour, atlas.findRegion("board/" + colour.toString().toLowerCase()));
+
+        TextureRegion unknown = atlas.findRegion("bots/unknown");
+        for (Bot.Difficulty difficulty : Bot.Difficulty.values()) {
+            TextureRegion region = atlas.findRegion("bots/" + difficulty.toString().toLowerCase());
+            bots.put(difficulty, region != null ? region : unknown);
+        }
+    }
+
+    public TextureRegion get(Piece.Type type) {
+        return pieces.get(type);
+    }
+
+    public TextureRegion get(Piece.Colour colour) {
+        return squares.get(colour);
+    }
+
+    public TextureRegion get(Bot.Difficulty difficulty) {
+        return bots.get(difficulty);
+    }
+
+    public void dispose() {
+        atlas.dispose();
+    }
 }
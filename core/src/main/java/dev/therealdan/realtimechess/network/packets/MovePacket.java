@@ -13,8 +13,8 @@ public class MovePacket extends Packet {
     public MovePacket(Piece.Type pieceType, Position from, Position to) {
         super(Type.MOVE, pieceType.getNotation() + from.getNotation() + to.getNotation());
         this.pieceType = pieceType;
-        this.from = from.copy();
-        this.to = to.copy();
+        this.from = from;
+        this.to = to;
     }
 
     private MovePacket(String data) {
@@ -11,7 +11,7 @@ public class PromotionPacket extends Packet {
 
     public PromotionPacket(Position position, Piece.Type promoteTo) {
         super(Type.PROMOTE, position.getNotation() + promoteTo.getNotation());
-        this.position = position.copy();
+        this.position = position;
         this.promoteTo = promoteTo;
     }
 
@@ -0,0 +1,61 @@
+package dev.therealdan.realtimechess.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ScreenUtils;
+import dev.therealdan.realtimechess.main.RealTimeChessApp;
+
+public class BoardLayer implements Disposable {
+
+    private FrameBuffer frameBuffer;
+    private TextureRegion region;
+    private boolean labels;
+    private float scale;
+
+    private Matrix4 projection = new Matrix4();
+    private Matrix4 previous = new Matrix4();
+
+    public void render(RealTimeChessApp app, float x, float y, float size, boolean labels) {
+        int pixels = Math.max(8, Math.round(size));
+        if (frameBuffer == null || frameBuffer.getWidth() != pixels || this.labels != labels || scale != app.font.scale)
+            redraw(app, pixels, labels);
+
+        app.batch.setColor(Color.WHITE);
+        app.batch.disableBlending();
+        app.batch.draw(region, x, y, size, size);
+        app.batch.enableBlending();
+    }
+
+    private void redraw(RealTimeChessApp app, int pixels, boolean labels) {
+        if (frameBuffer == null || frameBuffer.getWidth() != pixels) {
+            dispose();
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, pixels, pixels, false);
+            region = new TextureRegion(frameBuffer.getColorBufferTexture());
+            region.flip(false, true);
+        }
+        this.labels = labels;
+        this.scale = app.font.scale;
+
+        previous.set(app.batch.getProjectionMatrix());
+        app.batch.end();
+        frameBuffer.begin();
+        ScreenUtils.clear(0, 0, 0, 0);
+        app.batch.setProjectionMatrix(projection.setToOrtho2D(0, 0, pixels, pixels));
+        app.batch.begin();
+        BoardRenderer.renderSquares(app, 0, 0, pixels / 8f, labels);
+        app.batch.end();
+        frameBuffer.end();
+        app.batch.setProjectionMatrix(previous);
+        app.batch.begin();
+    }
+
+    @Override
+    public void dispose() {
+        if (frameBuffer != null) frameBuffer.dispose();
+        frameBuffer = null;
+    }
+}
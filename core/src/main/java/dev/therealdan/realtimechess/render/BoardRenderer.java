@@ -0,0 +1,44 @@
+package dev.therealdan.realtimechess.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.Color;
+import dev.therealdan.realtimechess.game.Piece;
+import dev.therealdan.realtimechess.game.Position;
+import dev.therealdan.realtimechess.main.Mouse;
+import dev.therealdan.realtimechess.main.RealTimeChessApp;
+
+public class BoardRenderer {
+
+    public static void render(RealTimeChessApp app, BoardView view, BoardLayer layer) {
+        float cell = view.getCell();
+        layer.render(app, view.getX(0), view.getY(0), cell * 8f, Gdx.input.isKeyPressed(Input.Keys.TAB));
+        for (int square = 0; square < 64; square++) {
+            float x = view.getX(square), y = view.getY(square);
+            Piece piece = view.getPiece(square);
+
+            if (piece == null && view.isTarget(square)) {
+                app.batch.setColor(PieceRenderer.getColor(view.getSelected().getColour()));
+                app.batch.draw(app.textures.circle, x + cell * 3f / 8f, y + cell * 3f / 8f, cell / 4f, cell / 4f);
+            }
+            if (piece != null && (piece != view.getSelected() || !view.isHolding()))
+                PieceRenderer.render(app, piece, x, y, cell, view.isCapture(square) ? Color.FIREBRICK : PieceRenderer.getColor(piece.getColour()));
+        }
+        if (view.isHolding())
+            PieceRenderer.render(app, view.getSelected(), Mouse.getX() - cell / 2f, Mouse.getY() - cell / 2f, cell);
+    }
+
+    public static void renderSquares(RealTimeChessApp app, float ox, float oy, float cell, boolean labels) {
+        app.batch.setColor(Color.WHITE);
+        for (int square = 0; square < 64; square++) {
+            float x = ox + square % 8 * cell, y = oy + square / 8 * cell;
+            app.batch.draw(app.textures.get((square % 8 + square / 8) % 2 == 0 ? Piece.Colour.BLACK : Piece.Colour.WHITE), x, y, cell, cell);
+            if (labels) {
+                Position position = Position.bySquare(square);
+                float spacing = cell * 0.1f;
+                if (position.getNumber() == 1) app.font.center(app.batch, position.getLetter(), x + cell - spacing, y + spacing * 2f, (int) (10f * app.font.scale), Color.BLACK);
+                if (position.getLetter().equals("a")) app.font.center(app.batch, position.getNumber() + "", x + spacing, y + cell - spacing * 2f, (int) (10f * app.font.scale), Color.BLACK);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package dev.therealdan.realtimechess.render;
+
+import dev.therealdan.realtimechess.game.Board;
+import dev.therealdan.realtimechess.game.Piece;
+import dev.therealdan.realtimechess.game.Position;
+import dev.therealdan.realtimechess.main.Mouse;
+
+public class BoardView {
+
+    private Board board;
+    private int generation;
+    private Piece selected;
+    private boolean holding;
+
+    private Piece[] pieces = new Piece[64];
+    private long targets = 0;
+    private long captures = 0;
+
+    private float x, y, cell;
+
+    public void update(Board board, float x, float y, float width, float height) {
+        this.x = x;
+        this.y = y;
+        this.cell = width / 8;
+
+        Position hovering = Position.byCoordinates((int) Math.floor((Mouse.getX() - x) / cell) + 1, (int) Math.floor((Mouse.getY() - y) / cell) + 1);
+        board.setHovering(hovering);
+
+        if (board == this.board && board.getGeneration() == generation && board.getSelected() == selected && board.isHolding() == holding) return;
+        this.board = board;
+        this.generation = board.getGeneration();
+        this.selected = board.getSelected();
+        this.holding = board.isHolding() && selected != null;
+
+        for (int square = 0; square < 64; square++)
+            pieces[square] = board.byPosition(Position.bySquare(square));
+
+        targets = holding ? board.getLegalTargets(selected) : 0;
+        captures = holding ? targets & board.getOccupancy(selected.getColour().opposite()) : 0;
+        if (holding && selected.getType().equals(Piece.Type.PAWN)) {
+            int square = selected.getSquare();
+            for (int side : new int[]{-1, 1}) {
+                Piece pawn = square % 8 + side >= 0 && square % 8 + side < 8 ? pieces[square + side] : null;
+                if (pawn != null && pawn.getType().equals(Piece.Type.PAWN) && !pawn.getColour().equals(selected.getColour()) && board.isEnPassant(pawn))
+                    captures |= 1L << pawn.getSquare();
+            }
+        }
+    }
+
+    public Piece getPiece(int square) {
+        return pieces[square];
+    }
+
+    public boolean isTarget(int square) {
+        return (targets & (1L << square)) != 0;
+    }
+
+    public boolean isCapture(int square) {
+        return (captures & (1L << square)) != 0;
+    }
+
+    public Piece getSelected() {
+        return selected;
+    }
+
+    public boolean isHolding() {
+        return holding;
+    }
+
+    public float getX(int square) {
+        return x + square % 8 * cell;
+    }
+
+    public float getY(int square) {
+        return y + square / 8 * cell;
+    }
+
+    public float getCell() {
+        return cell;
+    }
+}
@@ -0,0 +1,37 @@
+package dev.therealdan.realtimechess.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.Color;
+import dev.therealdan.realtimechess.game.Piece;
+import dev.therealdan.realtimechess.main.RealTimeChessApp;
+
+public class PieceRenderer {
+
+    public static void render(RealTimeChessApp app, float x, float y, float size, Piece.Type type, Color color) {
+        float spacing = size * 0.1f;
+        size -= spacing * 2f;
+        app.batch.setColor(color);
+        app.batch.draw(app.textures.get(type), x + spacing, y + spacing, size, size);
+    }
+
+    public static void render(RealTimeChessApp app, Piece piece, float x, float y, float cell) {
+        render(app, piece, x, y, cell, getColor(piece.getColour()));
+    }
+
+    public static void render(RealTimeChessApp app, Piece piece, float x, float y, float cell, Color color) {
+        float spacing = cell * 0.1f;
+        if (piece.isOnCooldown()) {
+            app.batch.setColor(Color.WHITE);
+            app.batch.draw(app.textures.firebrick, x, y, cell, cell * piece.getTimeSinceLastMove() / piece.getCooldown());
+        }
+        render(app, x, y, cell, piece.getType(), color);
+
+        if (Gdx.input.isKeyPressed(Input.Keys.TAB))
+            app.font.center(app.batch, piece.getPosition().getNotation(), x + cell / 2f, y + spacing * 3f, (int) (10f * app.font.scale), getColor(piece.getColour().opposite()));
+    }
+
+    public static Color getColor(Piece.Colour colour) {
+        return colour.equals(Piece.Colour.BLACK) ? Color.BLACK : Color.WHITE;
+    }
+}
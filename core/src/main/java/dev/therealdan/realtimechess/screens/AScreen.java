@@ -28,7 +28,10 @@ public abstract class AScreen implements Screen, InputProcessor {
     @Override
     public void resize(int width, int height) {
         viewport.update(width, height);
-        app.font.scale = Gdx.graphics.getWidth() / 1000f;
+    }
+
+    public boolean isAnimating() {
+        return false;
     }
 
     @Override
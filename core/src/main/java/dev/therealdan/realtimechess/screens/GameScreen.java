@@ -11,6 +11,10 @@ import dev.therealdan.realtimechess.main.Settings;
 import dev.therealdan.realtimechess.network.DevicePeer;
 import dev.therealdan.realtimechess.network.Packet;
 import dev.therealdan.realtimechess.network.packets.*;
+import dev.therealdan.realtimechess.render.BoardLayer;
+import dev.therealdan.realtimechess.render.BoardRenderer;
+import dev.therealdan.realtimechess.render.BoardView;
+import dev.therealdan.realtimechess.render.PieceRenderer;
 import dev.therealdan.realtimechess.screens.game.ClientScreen;
 import dev.therealdan.realtimechess.screens.game.ServerScreen;
 
@@ -20,6 +24,8 @@ public abstract class GameScreen extends AScreen {
     protected Board board;
 
     private Piece.Type promotion = Piece.Type.QUEEN;
+    private BoardView boardView = new BoardView();
+    private BoardLayer boardLayer = new BoardLayer();
 
     public GameScreen(RealTimeChessApp app) {
         super(app);
@@ -49,8 +55,7 @@ public abstract class GameScreen extends AScreen {
                     case CLIENT:
                         BoardPacket boardPacket = BoardPacket.parse(data);
                         if (board == null) board = new Board();
-                        getBoard().getPieces().clear();
-                        getBoard().getPieces().addAll(boardPacket.getPieces());
+                        getBoard().setPieces(boardPacket.getPieces());
                         break;
                 }
                 break;
@@ -86,6 +91,7 @@ public abstract class GameScreen extends AScreen {
                 }
                 break;
         }
+        Gdx.graphics.requestRendering();
     }
 
     public void moveTo(Piece piece, Position position) {
@@ -108,7 +114,7 @@ public abstract class GameScreen extends AScreen {
 
         width = ((Gdx.graphics.getWidth() - owidth) / 2f) - (spacing * 2f);
         x -= width + spacing;
-        y += spacing + app.font.getHeight(app.batch, app.settings.getString(Settings.Setting.USERNAME), (int) (16f * app.font.scale));
+        y += spacing + app.font.getHeight(app.settings.getString(Settings.Setting.USERNAME), (int) (16f * app.font.scale));
         app.font.draw(app.batch, getColour().equals(Piece.Colour.WHITE) ? app.settings.getString(Settings.Setting.USERNAME) : getOpponentName(), x, y, (int) (16f * app.font.scale), Color.WHITE);
         x += width + spacing * 2f + owidth;
         y = oy + height - spacing;
@@ -119,14 +125,17 @@ public abstract class GameScreen extends AScreen {
 
         if (!hasGameStarted()) return;
 
-        getBoard().render(app, x, y, width, height);
+        app.profiler.beginRules();
+        boardView.update(getBoard(), x, y, width, height);
+        app.profiler.endRules();
+        BoardRenderer.render(app, boardView, boardLayer);
 
         Piece piece = getBoard().getPromoting();
         if (piece != null && piece.getColour().equals(getColour())) {
             float cell = width / 8;
             x += (piece.getPosition().getX() - 1) * cell;
             y += (piece.getPosition().getY() - 1) * cell;
-            app.batch.setColor(getColour().getColor());
+            app.batch.setColor(PieceRenderer.getColor(getColour()));
             app.batch.draw(app.textures.white, x, y - cell * 3f, cell, cell * 4);
 
             Piece.Type[] types = {Piece.Type.QUEEN, Piece.Type.KNIGHT, Piece.Type.ROOK, Piece.Type.BISHOP};
@@ -136,12 +145,26 @@ public abstract class GameScreen extends AScreen {
                     app.batch.setColor(Color.WHITE);
                     app.batch.draw(app.textures.navy, x, y, cell, cell);
                 }
-                Piece.render(app, x, y, cell, type, type.equals(promotion) ? getColour().getColor() : Color.NAVY);
+                PieceRenderer.render(app, x, y, cell, type, type.equals(promotion) ? PieceRenderer.getColor(getColour()) : Color.NAVY);
                 y -= cell;
             }
         }
     }
 
+    @Override
+    public boolean isAnimating() {
+        if (!hasGameStarted()) return false;
+        if (getBoard().isHolding() || getBoard().getPromoting() != null) return true;
+        for (Piece piece : getBoard().getPieces())
+            if (piece.isOnCooldown()) return true;
+        return false;
+    }
+
+    @Override
+    public void dispose() {
+        boardLayer.dispose();
+    }
+
     public String getOpponentName() {
         return "";
     }
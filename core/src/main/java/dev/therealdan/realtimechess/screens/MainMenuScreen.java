@@ -48,7 +48,7 @@ public class MainMenuScreen extends AScreen {
             if (option.equals(Option.HOSTNAME)) {
                 app.font.draw(app.batch, "IP ADDRESS", x + height / 2f, y + height / 2f, (int) (16f * app.font.scale), Color.WHITE);
                 spacing = 5f;
-                width = owidth - height - app.font.getWidth(app.batch, "IP ADDRESS", (int) (16f * app.font.scale));
+                width = owidth - height - app.font.getWidth("IP ADDRESS", (int) (16f * app.font.scale));
                 app.batch.draw(app.textures.white, x + (owidth - width), y + spacing, width - spacing, height - spacing * 2f);
                 app.font.center(app.batch, app.settings.getString(Settings.Setting.IP_ADDRESS) + (editHost && System.currentTimeMillis() % 1500 > 750 ? "|" : ""), x + (owidth - width) + width / 2f, y + height / 2f, (int) (16f * app.font.scale), Color.BLACK);
                 spacing = ospacing;
@@ -85,7 +85,7 @@ public class MainMenuScreen extends AScreen {
         }
 
         app.batch.setColor(Color.WHITE);
-        app.batch.draw(previousDifficulty.getTexture(), x + textureXOffset, y, width, height);
+        app.batch.draw(app.textures.get(previousDifficulty), x + textureXOffset, y, width, height);
         x += width + spacing;
         app.batch.draw(app.textures.black, x, y, width, height);
 
@@ -97,7 +97,7 @@ public class MainMenuScreen extends AScreen {
         x += spacing / 2f;
         y += height - spacing / 2f;
         app.font.draw(app.batch, difficulty.getName() + " " + difficulty.getDifficulty(), x, y, (int) (20f * app.font.scale), Color.WHITE);
-        y -= app.font.getHeight(app.batch, difficulty.getName(), (int) (20f * app.font.scale)) + spacing;
+        y -= app.font.getHeight(difficulty.getName(), (int) (20f * app.font.scale)) + spacing;
         app.font.draw(app.batch, difficulty.getDescription(), x, y, width - spacing, (int) (12f * app.font.scale), Color.WHITE);
 
         if (Mouse.containsMouse(buttonX, buttonY, buttonWidth, buttonHeight)) hovering = Option.PLAY;
@@ -143,7 +143,7 @@ public class MainMenuScreen extends AScreen {
                 renderMenu(y, oheight);
                 break;
             case BOTS:
-                renderBots(delta, y, oheight);
+                renderBots(Math.min(delta, 1f / 30f), y, oheight);
                 break;
             case SETTINGS:
                 app.settings.render(app, y, oheight);
@@ -151,6 +151,12 @@ public class MainMenuScreen extends AScreen {
         }
     }
 
+    @Override
+    public boolean isAnimating() {
+        if (previousDifficulty != difficulty || textureXOffset > 0) return true;
+        return editHost || app.settings.isEditing();
+    }
+
     @Override
     public boolean keyDown(int i) {
         if (Option.SETTINGS.equals(menu)) {
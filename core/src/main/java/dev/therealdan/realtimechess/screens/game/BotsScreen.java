@@ -1,7 +1,10 @@
 package dev.therealdan.realtimechess.screens.game;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Timer;
 import dev.therealdan.realtimechess.game.Board;
 import dev.therealdan.realtimechess.game.Bot;
+import dev.therealdan.realtimechess.game.BotWorker;
 import dev.therealdan.realtimechess.game.Piece;
 import dev.therealdan.realtimechess.main.RealTimeChessApp;
 import dev.therealdan.realtimechess.main.Settings;
@@ -9,24 +12,49 @@ import dev.therealdan.realtimechess.screens.GameScreen;
 
 public class BotsScreen extends GameScreen {
 
-    private Bot bot;
+    private BotWorker botWorker;
+    private Timer.Task wake = new Timer.Task() {
+        @Override
+        public void run() {
+            Gdx.graphics.requestRendering();
+        }
+    };
 
     public BotsScreen(RealTimeChessApp app, Bot.Difficulty difficulty) {
         super(app);
 
         colour = app.settings.getToggle(Settings.Setting.PREFERENCE) ? Piece.Colour.WHITE : Piece.Colour.BLACK;
         board = Board.standardBoard();
-        bot = new Bot(difficulty, getColour().opposite());
+        Bot bot = new Bot(difficulty, getColour().opposite());
+        bot.setThinkTime(app.settings.getNumber(Settings.Setting.BOT_THINK_TIME));
+        bot.setThreads((int) app.settings.getNumber(Settings.Setting.BOT_THREADS));
+        bot.setHashSize((int) app.settings.getNumber(Settings.Setting.BOT_HASH));
+        botWorker = new BotWorker(bot, Gdx.graphics::requestRendering);
     }
 
     @Override
     public void render(float delta) {
         super.render(delta);
-        getBot().think(getBoard());
+        app.profiler.beginRules();
+        if (botWorker.update(getBoard())) Gdx.graphics.requestRendering();
+        app.profiler.endRules();
+        app.profiler.setReport(getBot().getReport());
+
+        long wait = getBot().getTimeUntilReady();
+        if (!getBot().getDifficulty().equals(Bot.Difficulty.BRAINLESS) && wait > 0 && !wake.isScheduled())
+            Timer.schedule(wake, wait / 1000f);
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        botWorker.shutdown();
+        wake.cancel();
+        app.profiler.setReport(null);
     }
 
     public Bot getBot() {
-        return bot;
+        return botWorker.getBot();
     }
 
     @Override
@@ -38,9 +66,8 @@ public class BotsScreen extends GameScreen {
     public boolean canMove(Piece piece) {
         if (piece == null) return false;
         if (getBot().getDifficulty().equals(Bot.Difficulty.BRAINLESS)) {
-            piece = piece.copy();
-            piece.setColour(getColour());
-            return super.canMove(piece);
+            if (piece.isOnCooldown()) return false;
+            return !getBoard().isChecked(piece.getColour()) || !getBoard().getPossibleMoves(piece).isEmpty();
         }
         return super.canMove(piece);
     }
@@ -34,7 +34,8 @@ public class ClientScreen extends GameScreen {
         new Thread(() -> {
             while (true) {
                 try {
-                    incoming(new BufferedReader(new InputStreamReader(getClient().getInputStream())).readLine());
+                    String data = new BufferedReader(new InputStreamReader(getClient().getInputStream())).readLine();
+                    Gdx.app.postRunnable(() -> incoming(data));
                 } catch (IOException e) {
                     Gdx.app.log(getDevicePeer().getName(), "Error", e);
                 }
@@ -59,6 +60,7 @@ public class ClientScreen extends GameScreen {
 
     @Override
     public void dispose() {
+        super.dispose();
         getClient().dispose();
     }
 
@@ -34,7 +34,8 @@ public class ServerScreen extends GameScreen {
             getServer().accept();
             while (true) {
                 try {
-                    incoming(new BufferedReader(new InputStreamReader(getServer().getSocket().getInputStream())).readLine());
+                    String data = new BufferedReader(new InputStreamReader(getServer().getSocket().getInputStream())).readLine();
+                    Gdx.app.postRunnable(() -> incoming(data));
                 } catch (IOException e) {
                     Gdx.app.log(getDevicePeer().getName(), "Error", e);
                 }
@@ -57,6 +58,7 @@ public class ServerScreen extends GameScreen {
 
     @Override
     public void dispose() {
+        super.dispose();
         getServer().dispose();
     }
 
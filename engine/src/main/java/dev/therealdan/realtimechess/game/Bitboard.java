@@ -0,0 +1,180 @@
+package dev.therealdan.realtimechess.game;
+
+public class Bitboard {
+
+    public static final long RANK_1 = 0xFFL;
+    public static final long RANK_8 = 0xFFL << 56;
+
+    private static final int[][] ROOK_DIRECTIONS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+    private static final int[][] BISHOP_DIRECTIONS = {{1, 1}, {-1, -1}, {1, -1}, {-1, 1}};
+    private static final int[][] KNIGHT_OFFSETS = {{2, 1}, {2, -1}, {-2, 1}, {-2, -1}, {1, 2}, {-1, 2}, {1, -2}, {-1, -2}};
+    private static final int[][] KING_OFFSETS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}, {1, 1}, {-1, -1}, {1, -1}, {-1, 1}};
+
+    private static final long[][] BETWEEN = new long[64][64];
+    private static final long[][] LINE = new long[64][64];
+
+    private static final long[] KNIGHT_ATTACKS = new long[64];
+    private static final long[] KING_ATTACKS = new long[64];
+    private static final long[][] PAWN_ATTACKS = new long[Piece.Colour.values().length][64];
+
+    private static final long[] ROOK_MAGIC_NUMBERS = {
+        0x0080008420144000L, 0x0140001000402000L, 0x8100200100081040L, 0x0580100181040800L,
+        0x0480040002480180L, 0x020002001004C108L, 0x06002600180104ACL, 0x0A00010200804024L,
+        0x1102800320814002L, 0xC000808040002000L, 0x0202802000821000L, 0x4210800800801000L,
+        0x8008808044004800L, 0x0006002418100200L, 0x0A00800200010080L, 0x0202000208804114L,
+        0x0280044002200041L, 0x3010004020004008L, 0x0010002008040022L, 0x8000210008100102L,
+        0x60A2020004110820L, 0x0222008080040002L, 0x00C0840002085110L, 0x02004A0000810454L,
+        0x0080401080008020L, 0x0040200040100048L, 0x0006041200208040L, 0x2010100100210008L,
+        0x5090080080800400L, 0x0022002200042950L, 0x011010040002E108L, 0x0000240200009041L,
+        0x0010400020800080L, 0x0040401000402000L, 0x0200200080801000L, 0x4140080080801003L,
+        0x0000800400800800L, 0x0800040080800200L, 0x1008080284002110L, 0x00A001008A001444L,
+        0x3040002040908000L, 0x1000422010024000L, 0x0040402001010010L, 0x8000100008008080L,
+        0x0084008008028004L, 0x0002000204008080L, 0x0000088210040001L, 0x0280C12080520004L,
+        0x028700800C402B00L, 0x0180200040008080L, 0x80A0008020100080L, 0x0001012010008900L,
+        0x4000040108008180L, 0x000C000402008080L, 0x004B0002002C0900L, 0x0020D42040811200L,
+        0x8844520121004082L, 0x1109150082204001L, 0x0302000820408012L, 0x2081002208041001L,
+        0x0002000804201002L, 0x5101000A28040029L, 0x0100080112489004L, 0x02000E4400288102L
+    };
+    private static final long[] BISHOP_MAGIC_NUMBERS = {
+        0x4014281015002108L, 0x0060020882029000L, 0x1104440082102120L, 0x4004410020042802L,
+        0x0011104020140040L, 0x0006074460005020L, 0x48208E0820040201L, 0x0202050401042240L,
+        0x400C401014208AA0L, 0x01C020064A424100L, 0x0012304408424000L, 0x21008808510C0004L,
+        0x0020141420000024L, 0x0004009004202009L, 0x4002008410080450L, 0x2000088280B82000L,
+        0x4040002410828602L, 0x08448030810A1410L, 0x1010032104008110L, 0x0850810802084244L,
+        0x0804000202112040L, 0x4901008610009420L, 0x31A0402411082800L, 0x8402000107620200L,
+        0x2210311041126208L, 0x0295218018020400L, 0x2092010408104400L, 0x0004040000401080L,
+        0x0020404004010041L, 0x80448A0109080618L, 0x008084110A0A0200L, 0x204C00C000A70440L,
+        0x3010106441114400L, 0x0C94115400181000L, 0x1821403000020400L, 0x2000020082480080L,
+        0x2080408020020200L, 0x0020080040068040L, 0x20089D8888190802L, 0x000F820044408408L,
+        0x2084022006089000L, 0x22510101A0401020L, 0x40000A0802009408L, 0x140483C010420200L,
+        0x0449200208811408L, 0x0002220042000100L, 0x00281000D0800201L, 0x044200A519010200L,
+        0x0300421050080002L, 0x00C0540401080004L, 0x4801010088040034L, 0x8400000210540051L,
+        0x400400404822002CL, 0x2080070448020000L, 0x1B2082100A00A000L, 0x4002021802108000L,
+        0xC000248800901000L, 0x0000024100B01100L, 0x1902103044022100L, 0x0000004404228810L,
+        0x0101000008210100L, 0x0025000820089082L, 0x0008091010008120L, 0x9120024202040010L
+    };
+
+    private static final Magic[] ROOK_MAGICS = new Magic[64];
+    private static final Magic[] BISHOP_MAGICS = new Magic[64];
+
+    static {
+        for (int square = 0; square < 64; square++) {
+            for (int[] direction : KING_OFFSETS) {
+                long between = 0, ray = 0;
+                for (int x = square % 8 + direction[0], y = square / 8 + direction[1]; isOnBoard(x, y); x += direction[0], y += direction[1]) {
+                    BETWEEN[square][y * 8 + x] = between;
+                    between |= 1L << (y * 8 + x);
+                    ray |= 1L << (y * 8 + x);
+                }
+                for (int x = square % 8 - direction[0], y = square / 8 - direction[1]; isOnBoard(x, y); x -= direction[0], y -= direction[1])
+                    ray |= 1L << (y * 8 + x);
+                ray |= 1L << square;
+                for (long targets = between; targets != 0; targets &= targets - 1)
+                    LINE[square][Long.numberOfTrailingZeros(targets)] = ray;
+            }
+
+            KNIGHT_ATTACKS[square] = jump(square, KNIGHT_OFFSETS);
+            KING_ATTACKS[square] = jump(square, KING_OFFSETS);
+            for (Piece.Colour colour : new Piece.Colour[]{Piece.Colour.BLACK, Piece.Colour.WHITE}) {
+                int y = square / 8 + (colour.equals(Piece.Colour.BLACK) ? -1 : 1);
+                PAWN_ATTACKS[colour.ordinal()][square] = square(square % 8 + 1, y) | square(square % 8 - 1, y);
+            }
+
+            ROOK_MAGICS[square] = new Magic(square, ROOK_DIRECTIONS, ROOK_MAGIC_NUMBERS[square]);
+            BISHOP_MAGICS[square] = new Magic(square, BISHOP_DIRECTIONS, BISHOP_MAGIC_NUMBERS[square]);
+        }
+    }
+
+    public static long rank(int square) {
+        return RANK_1 << (square / 8 * 8);
+    }
+
+    public static long file(int x) {
+        return 0x0101010101010101L << x;
+    }
+
+    public static long between(int from, int to) {
+        return BETWEEN[from][to];
+    }
+
+    public static long line(int from, int to) {
+        return LINE[from][to];
+    }
+
+    public static long pawnAttacks(Piece.Colour colour, int square) {
+        return PAWN_ATTACKS[colour.ordinal()][square];
+    }
+
+    public static long knightAttacks(int square) {
+        return KNIGHT_ATTACKS[square];
+    }
+
+    public static long kingAttacks(int square) {
+        return KING_ATTACKS[square];
+    }
+
+    public static long rookAttacks(int square, long occupancy) {
+        return ROOK_MAGICS[square].getAttacks(occupancy);
+    }
+
+    public static long bishopAttacks(int square, long occupancy) {
+        return BISHOP_MAGICS[square].getAttacks(occupancy);
+    }
+
+    public static long queenAttacks(int square, long occupancy) {
+        return rookAttacks(square, occupancy) | bishopAttacks(square, occupancy);
+    }
+
+    private static long jump(int square, int[][] offsets) {
+        long attacks = 0;
+        for (int[] offset : offsets)
+            attacks |= square(square % 8 + offset[0], square / 8 + offset[1]);
+        return attacks;
+    }
+
+    private static long slide(int square, long occupancy, int[][] directions) {
+        long attacks = 0;
+        for (int[] direction : directions) {
+            for (int x = square % 8 + direction[0], y = square / 8 + direction[1]; isOnBoard(x, y); x += direction[0], y += direction[1]) {
+                attacks |= 1L << (y * 8 + x);
+                if ((occupancy & (1L << (y * 8 + x))) != 0) break;
+            }
+        }
+        return attacks;
+    }
+
+    private static long square(int x, int y) {
+        return isOnBoard(x, y) ? 1L << (y * 8 + x) : 0;
+    }
+
+    private static boolean isOnBoard(int x, int y) {
+        return x >= 0 && x < 8 && y >= 0 && y < 8;
+    }
+
+    private static class Magic {
+
+        private long mask;
+        private long magic;
+        private int shift;
+        private long[] attacks;
+
+        private Magic(int square, int[][] directions, long magic) {
+            for (int[] direction : directions)
+                for (int x = square % 8 + direction[0], y = square / 8 + direction[1]; isOnBoard(x + direction[0], y + direction[1]); x += direction[0], y += direction[1])
+                    mask |= 1L << (y * 8 + x);
+
+            this.magic = magic;
+            this.shift = 64 - Long.bitCount(mask);
+            this.attacks = new long[1 << Long.bitCount(mask)];
+            long subset = 0;
+            do {
+                attacks[(int) ((subset * magic) >>> shift)] = slide(square, subset, directions);
+                subset = (subset - mask) & mask;
+            } while (subset != 0);
+        }
+
+        private long getAttacks(long occupancy) {
+            return attacks[(int) (((occupancy & mask) * magic) >>> shift)];
+        }
+    }
+}
@@ -0,0 +1,622 @@
+package dev.therealdan.realtimechess.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class Board {
+
+    private List<Piece> pieces = new ArrayList<>();
+    private List<Piece> view = Collections.unmodifiableList(pieces);
+    private Piece[] squares = new Piece[64];
+    private long[] colours = new long[Piece.Colour.values().length];
+    private long[] types = new long[Piece.Type.values().length];
+
+    private long enPassant = 0;
+    private long castles = 0;
+    private long hash = 0;
+    private int middlegame = 0;
+    private int endgame = 0;
+    private int phase = 0;
+
+    private Undo[] history = new Undo[0];
+    private int ply = 0;
+
+    private int generation = 1;
+    private long[] legalTargets = new long[64];
+    private int[] legalTargetsGeneration = new int[64];
+    private boolean[] checked = new boolean[Piece.Colour.values().length];
+    private int[] checkedGeneration = new int[Piece.Colour.values().length];
+
+    private GameClock clock;
+
+    private Position hovering = null;
+    private Piece selected = null;
+    private boolean holding = false;
+
+    public Board() {
+        this(GameClock.SYSTEM);
+    }
+
+    public Board(GameClock clock) {
+        this.clock = clock;
+    }
+
+    public boolean moveTo(Piece piece, Position position) {
+        if (getPromoting() != null) return false;
+        if (piece == null || position == null) return false;
+        Piece captured = byPosition(position);
+        if (captured != null && captured.getColour().equals(piece.getColour())) return false;
+
+        if (piece.isOnCooldown()) return false;
+        if (!isLegalMove(piece, position)) return false;
+
+        Undo undo = record(ply);
+        apply(piece, position.getSquare(), undo);
+        if (undo.captured != null)
+            discard(undo.captured);
+        if (undo.enPassantCaptured != null)
+            discard(undo.enPassantCaptured);
+        return true;
+    }
+
+    public boolean moveTo(int move) {
+        return moveTo(squares[Move.getFrom(move)], Position.bySquare(Move.getTo(move)));
+    }
+
+    public Undo make(int move) {
+        Undo undo = record(ply++);
+        apply(squares[Move.getFrom(move)], Move.getTo(move), undo);
+        return undo;
+    }
+
+    public Undo make(int move, Piece.Type promotion) {
+        Undo undo = make(move);
+        if (promotion != null) {
+            Piece pawn = squares[undo.to];
+            lift(pawn);
+            undo.promotion = new Piece(promotion, pawn.getColour(), Position.bySquare(undo.to), pawn.getLastMove(), clock);
+            place(undo.promotion);
+        }
+        return undo;
+    }
+
+    public Undo make(Piece piece, Position position) {
+        Undo undo = record(ply++);
+        apply(piece, position.getSquare(), undo);
+        return undo;
+    }
+
+    public void unmake() {
+        Undo undo = history[--ply];
+        if (undo.promotion != null)
+            lift(undo.promotion);
+        relocate(undo.piece, undo.from);
+        undo.piece.setLastMove(undo.lastMove);
+        if (undo.captured != null)
+            place(undo.captured);
+        if (undo.enPassantCaptured != null)
+            place(undo.enPassantCaptured);
+        if (undo.rook != null) {
+            relocate(undo.rook, undo.rookFrom);
+            undo.rook.setLastMove(undo.rookLastMove);
+        }
+        for (int i = 0; i < undo.bishopCount; i++)
+            undo.bishops[i].setLastMove(undo.bishopLastMoves[i]);
+        enPassant = undo.enPassant;
+        castles = undo.castles;
+        hash = undo.hash;
+    }
+
+    private void apply(Piece piece, int to, Undo undo) {
+        int from = piece.getSquare();
+        undo.piece = piece;
+        undo.from = from;
+        undo.to = to;
+        undo.captured = squares[to];
+        undo.enPassantCaptured = null;
+        undo.rook = null;
+        undo.bishopCount = 0;
+        undo.promotion = null;
+        undo.lastMove = piece.getLastMove();
+        undo.enPassant = enPassant;
+        undo.castles = castles;
+        undo.hash = hash;
+
+        int fromX = from % 8, fromY = from / 8;
+        int toX = to % 8, toY = to / 8;
+        switch (piece.getType()) {
+            case PAWN:
+                enPassant &= ~(1L << from);
+                if (Math.abs(fromY - toY) > 1)
+                    enPassant |= 1L << to;
+
+                if (fromX != toX && squares[to] == null) {
+                    int enPassantCapture = fromY * 8 + toX;
+                    if ((enPassant & colours[piece.getColour().opposite().ordinal()] & (1L << enPassantCapture)) != 0) {
+                        undo.enPassantCaptured = squares[enPassantCapture];
+                        lift(undo.enPassantCaptured);
+                        enPassant &= ~(1L << enPassantCapture);
+                    }
+                }
+                break;
+            case ROOK:
+                castles &= ~(1L << from);
+                break;
+            case BISHOP:
+                for (long bishops = getBitboard(piece.getColour(), Piece.Type.BISHOP) & ~(1L << from); bishops != 0; bishops &= bishops - 1) {
+                    Piece bishop = squares[Long.numberOfTrailingZeros(bishops)];
+                    undo.bishops[undo.bishopCount] = bishop;
+                    undo.bishopLastMoves[undo.bishopCount++] = bishop.getLastMove();
+                    bishop.resetCooldown();
+                }
+                break;
+            case KING:
+                if (Math.abs(fromX - toX) > 1) {
+                    int rookFrom = toY * 8 + (toX == 6 ? 7 : 0);
+                    Piece rook = squares[rookFrom];
+                    if (rook != null && (castles & (1L << rookFrom)) != 0) {
+                        undo.rook = rook;
+                        undo.rookFrom = rookFrom;
+                        undo.rookLastMove = rook.getLastMove();
+                        rook.moved();
+                        relocate(rook, toY * 8 + (toX == 6 ? 5 : 3));
+                    }
+                    castles &= ~(1L << rookFrom);
+                }
+                castles &= ~colours[piece.getColour().ordinal()];
+                break;
+        }
+
+        piece.moved();
+        if (undo.captured != null) {
+            lift(undo.captured);
+            enPassant &= ~(1L << to);
+            castles &= ~(1L << to);
+        }
+        relocate(piece, to);
+        hash ^= Zobrist.enPassant(enPassant ^ undo.enPassant) ^ Zobrist.castles(castles ^ undo.castles);
+    }
+
+    private Undo record(int ply) {
+        if (ply >= history.length)
+            history = Arrays.copyOf(history, ply + 8);
+        if (history[ply] == null)
+            history[ply] = new Undo();
+        return history[ply];
+    }
+
+    public void setHovering(Position position) {
+        hovering = position;
+    }
+
+    public Position getHovering() {
+        return hovering;
+    }
+
+    public void select(Piece piece) {
+        selected = piece;
+    }
+
+    public Piece getSelected() {
+        return selected;
+    }
+
+    public void setHolding(boolean holding) {
+        this.holding = holding;
+    }
+
+    public boolean isHolding() {
+        return holding;
+    }
+
+    public boolean isChecked(Piece.Colour colour) {
+        int index = colour.ordinal();
+        if (checkedGeneration[index] != generation) {
+            long kings = getBitboard(colour, Piece.Type.KING);
+            checked[index] = kings != 0 && getAttackers(Long.numberOfTrailingZeros(kings), colour.opposite(), getOccupancy()) != 0;
+            checkedGeneration[index] = generation;
+        }
+        return checked[index];
+    }
+
+    public boolean isLegalMove(Piece piece, Position position) {
+        if (piece == null || position == null) return false;
+        if (squares[piece.getSquare()] != piece) return false;
+        if ((getTargets(piece) & (1L << position.getSquare())) == 0) return false;
+        return isLegal(piece, position.getSquare());
+    }
+
+    private boolean isLegal(Piece piece, int to) {
+        int from = piece.getSquare();
+        Piece.Colour colour = piece.getColour();
+        long kings = getBitboard(colour, Piece.Type.KING);
+        if (kings == 0) return true;
+        int king = Long.numberOfTrailingZeros(kings);
+
+        switch (piece.getType()) {
+            case KING:
+                if (Math.abs(from % 8 - to % 8) > 1) return isSafeCastle(colour, from, to);
+                return (getAttackers(to, colour.opposite(), getOccupancy() & ~(1L << from)) & ~(1L << to)) == 0;
+            case PAWN:
+                if (from % 8 != to % 8 && squares[to] == null) return isSafeEnPassant(colour, from, to, king);
+                break;
+        }
+
+        long checkers = getAttackers(king, colour.opposite(), getOccupancy());
+        if (checkers != 0) {
+            if ((checkers & (checkers - 1)) != 0) return false;
+            long evasions = checkers | Bitboard.between(king, Long.numberOfTrailingZeros(checkers));
+            if ((evasions & (1L << to)) == 0) return false;
+        }
+
+        if (isPinned(from, king, colour)) return (Bitboard.line(king, from) & (1L << to)) != 0;
+        return true;
+    }
+
+    public long getAttackers(int square, Piece.Colour colour, long occupancy) {
+        long bishops = types[Piece.Type.BISHOP.ordinal()] | types[Piece.Type.QUEEN.ordinal()];
+        long rooks = types[Piece.Type.ROOK.ordinal()] | types[Piece.Type.QUEEN.ordinal()];
+        long attackers = Bitboard.pawnAttacks(colour.opposite(), square) & types[Piece.Type.PAWN.ordinal()]
+            | Bitboard.knightAttacks(square) & types[Piece.Type.KNIGHT.ordinal()]
+            | Bitboard.kingAttacks(square) & types[Piece.Type.KING.ordinal()]
+            | Bitboard.bishopAttacks(square, occupancy) & bishops
+            | Bitboard.rookAttacks(square, occupancy) & rooks;
+        return attackers & colours[colour.ordinal()] & occupancy;
+    }
+
+    private boolean isPinned(int square, int king, Piece.Colour colour) {
+        long line = Bitboard.line(king, square);
+        if (line == 0) return false;
+
+        Piece.Colour opponent = colour.opposite();
+        long occupancy = getOccupancy() & ~(1L << square);
+        long pinners = getAttackers(king, opponent, occupancy) & line & ~getAttackers(king, opponent, getOccupancy());
+        return pinners != 0;
+    }
+
+    private boolean isSafeCastle(Piece.Colour colour, int from, int to) {
+        long occupancy = getOccupancy() & ~(1L << from) | 1L << to;
+        int rookFrom = to / 8 * 8 + (to % 8 == 6 ? 7 : 0);
+        if (squares[rookFrom] != null && (castles & (1L << rookFrom)) != 0)
+            occupancy = occupancy & ~(1L << rookFrom) | 1L << (to / 8 * 8 + (to % 8 == 6 ? 5 : 3));
+        return getAttackers(to, colour.opposite(), occupancy) == 0;
+    }
+
+    private boolean isSafeEnPassant(Piece.Colour colour, int from, int to, int king) {
+        long occupancy = getOccupancy() & ~(1L << from) | 1L << to;
+        int captured = from / 8 * 8 + to % 8;
+        if ((enPassant & colours[colour.opposite().ordinal()] & (1L << captured)) != 0)
+            occupancy &= ~(1L << captured);
+        return getAttackers(king, colour.opposite(), occupancy) == 0;
+    }
+
+    public boolean isEnPassant(Piece piece) {
+        return (enPassant & (1L << piece.getSquare())) != 0;
+    }
+
+    private long getTargets(Piece piece) {
+        int square = piece.getSquare();
+        long own = colours[piece.getColour().ordinal()];
+        long occupancy = getOccupancy();
+        switch (piece.getType()) {
+            case PAWN:
+                boolean black = piece.getColour().equals(Piece.Colour.BLACK);
+                long targets = Bitboard.pawnAttacks(piece.getColour(), square) & colours[piece.getColour().opposite().ordinal()];
+                int forward = square + (black ? -8 : 8);
+                if (forward >= 0 && forward < 64 && (occupancy & (1L << forward)) == 0) {
+                    targets |= 1L << forward;
+                    int twice = forward + (black ? -8 : 8);
+                    if (piece.isStartPosition() && (occupancy & (1L << twice)) == 0)
+                        targets |= 1L << twice;
+                }
+                for (long adjacent = Bitboard.kingAttacks(square) & Bitboard.rank(square) & enPassant & types[Piece.Type.PAWN.ordinal()] & ~own; adjacent != 0; adjacent &= adjacent - 1) {
+                    int x = Long.numberOfTrailingZeros(adjacent) % 8;
+                    targets |= Bitboard.pawnAttacks(piece.getColour(), square) & Bitboard.file(x);
+                }
+                return targets & ~own;
+            case KNIGHT:
+                return Bitboard.knightAttacks(square) & ~own;
+            case BISHOP:
+                return Bitboard.bishopAttacks(square, occupancy) & ~own;
+            case ROOK:
+                return Bitboard.rookAttacks(square, occupancy) & ~own;
+            case QUEEN:
+                return Bitboard.queenAttacks(square, occupancy) & ~own;
+            case KING:
+                long moves = Bitboard.kingAttacks(square) & ~own;
+                if ((castles & own) != 0) {
+                    int x = square % 8;
+                    if (x + 3 < 8 && (castles & own & (1L << (square + 3))) != 0 && (occupancy & (3L << (square + 1))) == 0)
+                        moves |= 1L << (square + 2);
+                    if (x - 4 >= 0 && (castles & own & (1L << (square - 4))) != 0 && (occupancy & (7L << (square - 3))) == 0)
+                        moves |= 1L << (square - 2);
+                }
+                return moves;
+        }
+        return 0;
+    }
+
+    public boolean isStalemate(Piece.Colour colour) {
+        for (Piece piece : getPieces()) {
+            if (!piece.getColour().equals(colour)) continue;
+            if (hasMoves(piece))
+                return false;
+        }
+        return !isChecked(colour);
+    }
+
+    public boolean isCheckmate(Piece.Colour colour) {
+        if (!isChecked(colour)) return false;
+        for (Piece piece : getPieces()) {
+            if (!piece.getColour().equals(colour)) continue;
+            if (hasMoves(piece))
+                return false;
+        }
+        return true;
+    }
+
+    public void promote(Piece piece, Piece.Type type) {
+        remove(piece);
+        add(new Piece(type, piece.getColour(), piece.getPosition(), clock));
+    }
+
+    public Piece getPromoting() {
+        long promoting = getBitboard(Piece.Colour.BLACK, Piece.Type.PAWN) & Bitboard.RANK_1 | getBitboard(Piece.Colour.WHITE, Piece.Type.PAWN) & Bitboard.RANK_8;
+        if (promoting == 0) return null;
+        return squares[Long.numberOfTrailingZeros(promoting)];
+    }
+
+    public List<Position> getPossibleMoves(Piece piece) {
+        List<Position> moves = new ArrayList<>();
+        for (long targets = getLegalTargets(piece); targets != 0; targets &= targets - 1)
+            moves.add(Position.bySquare(Long.numberOfTrailingZeros(targets)));
+        return moves;
+    }
+
+    public MoveList getMoves(Piece piece, MoveList moves) {
+        if (piece == null) return moves;
+
+        int from = piece.getSquare();
+        for (long targets = getLegalTargets(piece); targets != 0; targets &= targets - 1) {
+            int square = Long.numberOfTrailingZeros(targets);
+            moves.add(Move.of(from, square, getFlags(piece, square)));
+        }
+        return moves;
+    }
+
+    public long getLegalTargets(Piece piece) {
+        if (piece == null) return 0;
+
+        int square = piece.getSquare();
+        if (squares[square] != piece) return 0;
+        if (legalTargetsGeneration[square] == generation)
+            return legalTargets[square];
+
+        long legal = 0;
+        for (long targets = getTargets(piece); targets != 0; targets &= targets - 1) {
+            int target = Long.numberOfTrailingZeros(targets);
+            if (isLegal(piece, target))
+                legal |= 1L << target;
+        }
+        legalTargets[square] = legal;
+        legalTargetsGeneration[square] = generation;
+        return legal;
+    }
+
+    private boolean hasMoves(Piece piece) {
+        return getLegalTargets(piece) != 0;
+    }
+
+    private int getFlags(Piece piece, int to) {
+        int from = piece.getSquare();
+        int flags = squares[to] != null ? Move.CAPTURE : 0;
+        switch (piece.getType()) {
+            case PAWN:
+                if (from % 8 != to % 8 && squares[to] == null)
+                    flags |= Move.CAPTURE | Move.EN_PASSANT;
+                if (Math.abs(from - to) == 16)
+                    flags |= Move.DOUBLE_PUSH;
+                if (((Bitboard.RANK_1 | Bitboard.RANK_8) & (1L << to)) != 0)
+                    flags |= Move.PROMOTION;
+                break;
+            case KING:
+                if (Math.abs(from - to) == 2)
+                    flags |= Move.CASTLE;
+                break;
+        }
+        return flags;
+    }
+
+    public Piece byPosition(Position position) {
+        if (position == null) return null;
+        return squares[position.getSquare()];
+    }
+
+    public List<Piece> getPieces() {
+        return view;
+    }
+
+    public void setPieces(List<Piece> pieces) {
+        for (Piece piece : new ArrayList<>(getPieces()))
+            remove(piece);
+        for (Piece piece : pieces)
+            add(piece);
+
+        long castles = 0;
+        for (Piece.Colour colour : new Piece.Colour[]{Piece.Colour.WHITE, Piece.Colour.BLACK}) {
+            int home = colour.equals(Piece.Colour.WHITE) ? 0 : 56;
+            if ((getBitboard(colour, Piece.Type.KING) & (1L << (home + 4))) != 0)
+                castles |= getBitboard(colour, Piece.Type.ROOK) & (1L << home | 1L << (home + 7));
+        }
+        setEnPassant(0);
+        setCastles(castles);
+    }
+
+    public long getOccupancy() {
+        return colours[Piece.Colour.BLACK.ordinal()] | colours[Piece.Colour.WHITE.ordinal()];
+    }
+
+    public long getOccupancy(Piece.Colour colour) {
+        return colours[colour.ordinal()];
+    }
+
+    public long getBitboard(Piece.Colour colour, Piece.Type type) {
+        return colours[colour.ordinal()] & types[type.ordinal()];
+    }
+
+    void setEnPassant(long enPassant) {
+        generation++;
+        hash ^= Zobrist.enPassant(this.enPassant ^ enPassant);
+        this.enPassant = enPassant;
+    }
+
+    void setCastles(long castles) {
+        generation++;
+        hash ^= Zobrist.castles(this.castles ^ castles);
+        this.castles = castles;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public long getHash() {
+        return hash ^ getCooldownHash();
+    }
+
+    public long getCooldownHash() {
+        long key = 0, millis = clock.millis();
+        for (long occupancy = getOccupancy(); occupancy != 0; occupancy &= occupancy - 1)
+            key ^= Zobrist.cooldown(squares[Long.numberOfTrailingZeros(occupancy)], millis);
+        return key;
+    }
+
+    public long getPositionHash() {
+        return hash;
+    }
+
+    int getMiddlegame() {
+        return middlegame;
+    }
+
+    int getEndgame() {
+        return endgame;
+    }
+
+    int getPhase() {
+        return phase;
+    }
+
+    private void add(Piece piece) {
+        pieces.add(piece);
+        place(piece);
+    }
+
+    private void remove(Piece piece) {
+        discard(piece);
+        lift(piece);
+    }
+
+    private void discard(Piece piece) {
+        pieces.remove(piece);
+        if (piece != selected) return;
+        selected = null;
+        holding = false;
+    }
+
+    private void relocate(Piece piece, int square) {
+        lift(piece);
+        piece.setSquare(square);
+        place(piece);
+    }
+
+    private void place(Piece piece) {
+        int square = piece.getSquare();
+        long bit = 1L << square;
+        squares[square] = piece;
+        generation++;
+        colours[piece.getColour().ordinal()] |= bit;
+        types[piece.getType().ordinal()] |= bit;
+        hash ^= Zobrist.piece(piece);
+        middlegame += Evaluation.middlegame(piece);
+        endgame += Evaluation.endgame(piece);
+        phase += Evaluation.phase(piece);
+    }
+
+    private void lift(Piece piece) {
+        int square = piece.getSquare();
+        if (squares[square] != piece) return;
+        long bit = 1L << square;
+        squares[square] = null;
+        generation++;
+        colours[piece.getColour().ordinal()] &= ~bit;
+        types[piece.getType().ordinal()] &= ~bit;
+        hash ^= Zobrist.piece(piece);
+        middlegame -= Evaluation.middlegame(piece);
+        endgame -= Evaluation.endgame(piece);
+        phase -= Evaluation.phase(piece);
+    }
+
+    public String getNotation() {
+        StringBuilder builder = new StringBuilder();
+        for (Piece piece : getPieces()) {
+            builder.append(",");
+            builder.append(piece.getColour().getNotation());
+            builder.append(piece.getType().getNotation());
+            builder.append(piece.getPosition().getNotation());
+        }
+        return builder.toString().replaceFirst(",", "");
+    }
+
+    public Board copy() {
+        return copy(clock);
+    }
+
+    public Board copy(GameClock clock) {
+        Board board = new Board(clock);
+        for (Piece piece : getPieces())
+            board.add(piece.copy(clock));
+        board.setEnPassant(enPassant);
+        board.setCastles(castles);
+        return board;
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
+    public static Board standardBoard() {
+        return standardBoard(GameClock.SYSTEM);
+    }
+
+    public static Board standardBoard(GameClock clock) {
+        Board board = new Board(clock);
+        board.add(new Piece(Piece.Type.ROOK, Piece.Colour.BLACK, Position.byNotation("a8"), clock));
+        board.add(new Piece(Piece.Type.KNIGHT, Piece.Colour.BLACK, Position.byNotation("b8"), clock));
+        board.add(new Piece(Piece.Type.BISHOP, Piece.Colour.BLACK, Position.byNotation("c8"), clock));
+        board.add(new Piece(Piece.Type.QUEEN, Piece.Colour.BLACK, Position.byNotation("d8"), clock));
+        board.add(new Piece(Piece.Type.KING, Piece.Colour.BLACK, Position.byNotation("e8"), clock));
+        board.add(new Piece(Piece.Type.BISHOP, Piece.Colour.BLACK, Position.byNotation("f8"), clock));
+        board.add(new Piece(Piece.Type.KNIGHT, Piece.Colour.BLACK, Position.byNotation("g8"), clock));
+        board.add(new Piece(Piece.Type.ROOK, Piece.Colour.BLACK, Position.byNotation("h8"), clock));
+
+        board.add(new Piece(Piece.Type.ROOK, Piece.Colour.WHITE, Position.byNotation("a1"), clock));
+        board.add(new Piece(Piece.Type.KNIGHT, Piece.Colour.WHITE, Position.byNotation("b1"), clock));
+        board.add(new Piece(Piece.Type.BISHOP, Piece.Colour.WHITE, Position.byNotation("c1"), clock));
+        board.add(new Piece(Piece.Type.QUEEN, Piece.Colour.WHITE, Position.byNotation("d1"), clock));
+        board.add(new Piece(Piece.Type.KING, Piece.Colour.WHITE, Position.byNotation("e1"), clock));
+        board.add(new Piece(Piece.Type.BISHOP, Piece.Colour.WHITE, Position.byNotation("f1"), clock));
+        board.add(new Piece(Piece.Type.KNIGHT, Piece.Colour.WHITE, Position.byNotation("g1"), clock));
+        board.add(new Piece(Piece.Type.ROOK, Piece.Colour.WHITE, Position.byNotation("h1"), clock));
+
+        board.setCastles(board.getBitboard(Piece.Colour.BLACK, Piece.Type.ROOK) | board.getBitboard(Piece.Colour.WHITE, Piece.Type.ROOK));
+
+        for (int letter = 1; letter <= 8; letter++) {
+            board.add(new Piece(Piece.Type.PAWN, Piece.Colour.BLACK, Position.byCoordinates(letter, 7), clock));
+            board.add(new Piece(Piece.Type.PAWN, Piece.Colour.WHITE, Position.byCoordinates(letter, 2), clock));
+        }
+        return board;
+    }
+}
@@ -0,0 +1,260 @@
+package dev.therealdan.realtimechess.game;
+
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+public class Bot {
+
+    private Random random = new Random();
+
+    private Difficulty difficulty;
+    private Piece.Colour colour;
+
+    private GameClock clock;
+    private volatile long lastMove;
+
+    private Search search;
+    private MonteCarlo monteCarlo;
+    private long thinkTime = 250;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int hashSize = 16;
+    private boolean shutdown = false;
+    private volatile String report;
+
+    public Bot(Difficulty difficulty, Piece.Colour colour) {
+        this(difficulty, colour, GameClock.SYSTEM);
+    }
+
+    public Bot(Difficulty difficulty, Piece.Colour colour, GameClock clock) {
+        this.difficulty = difficulty;
+        this.colour = colour;
+        this.clock = clock;
+        this.lastMove = clock.millis();
+    }
+
+    public void think(Board board) {
+        think(board, move -> {
+        });
+    }
+
+    public void think(Board board, IntConsumer chosen) {
+        if (getDifficulty().equals(Difficulty.BRAINLESS)) return;
+
+        Piece promoting = board.getPromoting();
+        if (promoting != null) {
+            if (promoting.getColour().equals(getColour())) {
+                board.promote(promoting, Piece.Type.QUEEN);
+            } else {
+                return;
+            }
+        }
+
+        if (!isReady()) return;
+        switch (getDifficulty()) {
+            case LEMONS:
+                doAnyMove(board, chosen);
+                break;
+            case SLOW:
+                doSmartMove(board, chosen);
+                break;
+            case CAUTIOUS:
+                doAttackMove(board, chosen);
+                if (getTimeSinceLastMove() < 5000) return;
+                doSmartMove(board, chosen);
+                break;
+            case TACTFUL:
+                doAttackMove(board, chosen);
+                if (random.nextBoolean()) doAttackMove(board, chosen);
+                if (random.nextBoolean()) doAttackMove(board, chosen);
+                doSmartMove(board, chosen);
+                break;
+            case RECKLESS:
+                doAnyMove(board, chosen);
+                break;
+            case IMPOSSIBLE:
+                doSmartMove(board, chosen);
+                if (random.nextBoolean()) doSmartMove(board, chosen);
+                if (random.nextBoolean()) doSmartMove(board, chosen);
+                break;
+            case CALCULATED:
+                doSearchMove(board, chosen);
+                break;
+            case INTUITIVE:
+                doMonteCarloMove(board, chosen);
+                break;
+        }
+    }
+
+    private boolean doSmartMove(Board board, IntConsumer chosen) {
+        if (!doAttackMove(board, chosen))
+            return doAnyMove(board, chosen);
+        return false;
+    }
+
+    private boolean doSearchMove(Board board, IntConsumer chosen) {
+        if (search == null) search = new Search(new TranspositionTable(hashSize));
+        int move = search.search(board, getColour(), thinkTime);
+        report = search.getReport();
+        if (move == Search.NONE) return false;
+        move(board, move, chosen);
+        return true;
+    }
+
+    private boolean doMonteCarloMove(Board board, IntConsumer chosen) {
+        MonteCarlo monteCarlo = getMonteCarlo();
+        if (monteCarlo == null) return false;
+        int move = monteCarlo.search(board, getColour(), thinkTime);
+        report = monteCarlo.getReport();
+        if (move == Search.NONE) return false;
+        move(board, move, chosen);
+        return true;
+    }
+
+    private boolean doAttackMove(Board board, IntConsumer chosen) {
+        MoveList moves = getPossibleMoves(board, getColour());
+        for (int i = 0; i < moves.size(); i++) {
+            if (Move.is(moves.get(i), Move.CAPTURE)) {
+                move(board, moves.get(i), chosen);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean doAnyMove(Board board, IntConsumer chosen) {
+        MoveList moves = getPossibleMoves(board, getColour());
+        if (moves.isEmpty()) return false;
+        move(board, moves.get(0), chosen);
+        return true;
+    }
+
+    private void move(Board board, int move, IntConsumer chosen) {
+        if (!board.moveTo(move)) return;
+        lastMove = clock.millis();
+        chosen.accept(move);
+    }
+
+    private MoveList getPossibleMoves(Board board, Piece.Colour colour) {
+        MoveList moves = MoveList.buffer(0);
+        for (long pieces = board.getOccupancy(colour); pieces != 0; pieces &= pieces - 1) {
+            Piece piece = board.byPosition(Position.bySquare(Long.numberOfTrailingZeros(pieces)));
+            if (!piece.isOnCooldown())
+                board.getMoves(piece, moves);
+        }
+        moves.shuffle(random);
+        return moves;
+    }
+
+    private synchronized MonteCarlo getMonteCarlo() {
+        if (shutdown) return null;
+        if (monteCarlo == null) monteCarlo = new MonteCarlo(threads);
+        return monteCarlo;
+    }
+
+    public synchronized void shutdown() {
+        shutdown = true;
+        if (monteCarlo != null) monteCarlo.shutdown();
+    }
+
+    public boolean isReady() {
+        return !getDifficulty().equals(Difficulty.BRAINLESS) && getTimeSinceLastMove() >= getDifficulty().getDelay();
+    }
+
+    public long getTimeUntilReady() {
+        return Math.max(0, getDifficulty().getDelay() - getTimeSinceLastMove());
+    }
+
+    public void setThinkTime(long thinkTime) {
+        this.thinkTime = thinkTime;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public void setHashSize(int megabytes) {
+        this.hashSize = megabytes;
+    }
+
+    public String getReport() {
+        return report;
+    }
+
+    public long getTimeSinceLastMove() {
+        return clock.millis() - lastMove;
+    }
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public Piece.Colour getColour() {
+        return colour;
+    }
+
+    public enum Difficulty {
+        BRAINLESS, LEMONS, SLOW, CAUTIOUS, TACTFUL, RECKLESS, IMPOSSIBLE, CALCULATED, INTUITIVE;
+
+        public String getName() {
+            return toString().substring(0, 1) + toString().substring(1).toLowerCase();
+        }
+
+        public long getDelay() {
+            switch (this) {
+                default:
+                    return 0;
+                case LEMONS:
+                    return 5000;
+                case SLOW:
+                    return 4000;
+                case CAUTIOUS:
+                    return 2000;
+                case TACTFUL:
+                    return 3000;
+                case RECKLESS:
+                    return 200;
+                case IMPOSSIBLE:
+                    return 400;
+                case CALCULATED:
+                case INTUITIVE:
+                    return 100;
+            }
+        }
+
+        public String getDifficulty() {
+            switch (this) {
+                default:
+                    return "";
+                case BRAINLESS:
+                    return "(very easy)";
+                case LEMONS:
+                    return "(easy)";
+            }
+        }
+
+        public String getDescription() {
+            switch (this) {
+                default:
+                    return "No one actually knows anything about this particular bot.";
+                case BRAINLESS:
+                    return "Unlike other advanced bots, brainless has no brains, meaning it does not posses any intelligence or ability to make decisions.\n\nIt serves as a great learning tool for beginners to real time chess as it will never actually move any chess pieces. Literally brainless.";
+                case LEMONS:
+                    return "The easy AI chess bot that looks like a lemon!\n\nDon't let its appearance fool you, because underneath that bright yellow peel lies a very dim-witted artificial intelligence.";
+                case SLOW:
+                    return "While many chess bots may boast about their quick decision-making abilities, Slow takes a different approach.\n\nSlow is not the fastest thinker on the chessboard and instead takes its time before making a decision.\n\nSlow originally wanted to be called \"Turtle\" but unfortunately missed the application deadline.";
+                case CAUTIOUS:
+                    return "Like a sharp-witted detective, Cautious carefully assesses every move and considers all possible outcomes before making a strategic decision.\n\nIt is not one to rush into battle without a plan, but instead, carefully plots its moves to outsmart its opponent.";
+                case TACTFUL:
+                    return "Meet Tactful, the AI chess bot that strikes the perfect balance between strategic thinking and tactical execution.\n\nLike a true commander, Tactful is always one step ahead, constantly assessing the board and anticipating your moves.";
+                case RECKLESS:
+                    return "While most chess bots prioritize strategic and calculated moves, Reckless thrives on spontaneity and thrills in making lightning-fast decisions.\n\nReckless may seem like an unlikely opponent, but don't let its cute and cunning exterior fool you. This AI is driven by a relentless desire to play the game in a way that is both chaotic and efficient.";
+                case IMPOSSIBLE:
+                    return "Introducing Impossible: the ultimate chess playing AI designed to dominate the board and outsmart even the most skilled human players.\n\nSuperior processing power and lightning-fast decision-making skills give it an edge over its human counterparts. Prepare to face the ultimate challenge and test your skills against this truly unbeatable AI.\n\nWill you be able to outsmart the impossible?";
+                case CALCULATED:
+                    return "Calculated does not guess. Every few moments it reads the board, counts the seconds left on every piece's cooldown and searches as deep as the clock allows before committing to a move.\n\nIf one of your pieces is still recovering, Calculated already knows it cannot get away.";
+                case INTUITIVE:
+                    return "Intuitive plays thousands of quick imaginary games in the blink of an eye, on every core it can find, and trusts whichever move keeps coming out on top.\n\nIt remembers what it imagined last time, so the longer the game goes on, the sharper its instincts become.";
+            }
+        }
+    }
+}
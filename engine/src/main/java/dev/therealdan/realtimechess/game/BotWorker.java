@@ -0,0 +1,65 @@
+package dev.therealdan.realtimechess.game;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class BotWorker {
+
+    private final Bot bot;
+    private final Runnable listener;
+    private final Queue<Integer> moves = new ConcurrentLinkedQueue<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Bot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Future<?> thinking;
+
+    public BotWorker(Bot bot) {
+        this(bot, () -> {
+        });
+    }
+
+    public BotWorker(Bot bot, Runnable listener) {
+        this.bot = bot;
+        this.listener = listener;
+    }
+
+    public boolean update(Board board) {
+        boolean changed = false;
+        Piece promoting = board.getPromoting();
+        if (promoting != null && promoting.getColour().equals(bot.getColour())) {
+            board.promote(promoting, Piece.Type.QUEEN);
+            changed = true;
+        }
+
+        Integer move;
+        while ((move = moves.poll()) != null) {
+            Piece piece = board.byPosition(Position.bySquare(Move.getFrom(move)));
+            if (piece != null && piece.getColour().equals(bot.getColour()) && board.moveTo(move))
+                changed = true;
+        }
+
+        if (thinking != null && !thinking.isDone()) return changed;
+        if (board.getPromoting() != null || !bot.isReady()) return changed;
+        Board snapshot = board.copy();
+        thinking = executor.submit(() -> bot.think(snapshot, chosen -> {
+            moves.add(chosen);
+            listener.run();
+        }));
+        return changed;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        bot.shutdown();
+    }
+
+    public Bot getBot() {
+        return bot;
+    }
+}
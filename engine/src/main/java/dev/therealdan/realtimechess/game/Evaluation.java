@@ -0,0 +1,187 @@
+package dev.therealdan.realtimechess.game;
+
+/**
+ * Material and piece-square scores are kept up to date by the board as pieces are placed and lifted,
+ * so only mobility, king safety and cooldowns are worked out when a position is evaluated.
+ */
+public class Evaluation {
+
+    public static final int[] VALUES = {100, 500, 320, 330, 0, 900};
+
+    private static final int[] PHASES = {0, 2, 1, 1, 0, 4};
+    private static final int MAX_PHASE = 24;
+
+    private static final int[] MOBILITY = {0, 2, 4, 3, 0, 1};
+    private static final int[] COOLDOWN = {10, 30, 20, 20, 40, 50};
+    private static final int SHIELD = 12;
+    private static final int KING_ATTACK = 15;
+
+    private static final int[] PAWN = {
+            0, 0, 0, 0, 0, 0, 0, 0,
+            50, 50, 50, 50, 50, 50, 50, 50,
+            10, 10, 20, 30, 30, 20, 10, 10,
+            5, 5, 10, 25, 25, 10, 5, 5,
+            0, 0, 0, 20, 20, 0, 0, 0,
+            5, -5, -10, 0, 0, -10, -5, 5,
+            5, 10, 10, -20, -20, 10, 10, 5,
+            0, 0, 0, 0, 0, 0, 0, 0,
+    };
+
+    private static final int[] PAWN_ENDGAME = {
+            0, 0, 0, 0, 0, 0, 0, 0,
+            80, 80, 80, 80, 80, 80, 80, 80,
+            50, 50, 50, 50, 50, 50, 50, 50,
+            30, 30, 30, 30, 30, 30, 30, 30,
+            20, 20, 20, 20, 20, 20, 20, 20,
+            10, 10, 10, 10, 10, 10, 10, 10,
+            0, 0, 0, 0, 0, 0, 0, 0,
+            0, 0, 0, 0, 0, 0, 0, 0,
+    };
+
+    private static final int[] ROOK = {
+            0, 0, 0, 0, 0, 0, 0, 0,
+            5, 10, 10, 10, 10, 10, 10, 5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            0, 0, 0, 5, 5, 0, 0, 0,
+    };
+
+    private static final int[] KNIGHT = {
+            -50, -40, -30, -30, -30, -30, -40, -50,
+            -40, -20, 0, 0, 0, 0, -20, -40,
+            -30, 0, 10, 15, 15, 10, 0, -30,
+            -30, 5, 15, 20, 20, 15, 5, -30,
+            -30, 0, 15, 20, 20, 15, 0, -30,
+            -30, 5, 10, 15, 15, 10, 5, -30,
+            -40, -20, 0, 5, 5, 0, -20, -40,
+            -50, -40, -30, -30, -30, -30, -40, -50,
+    };
+
+    private static final int[] BISHOP = {
+            -20, -10, -10, -10, -10, -10, -10, -20,
+            -10, 0, 0, 0, 0, 0, 0, -10,
+            -10, 0, 5, 10, 10, 5, 0, -10,
+            -10, 5, 5, 10, 10, 5, 5, -10,
+            -10, 0, 10, 10, 10, 10, 0, -10,
+            -10, 10, 10, 10, 10, 10, 10, -10,
+            -10, 5, 0, 0, 0, 0, 5, -10,
+            -20, -10, -10, -10, -10, -10, -10, -20,
+    };
+
+    private static final int[] KING = {
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -20, -30, -30, -40, -40, -30, -30, -20,
+            -10, -20, -20, -20, -20, -20, -20, -10,
+            20, 20, 0, 0, 0, 0, 20, 20,
+            20, 30, 10, 0, 0, 10, 30, 20,
+    };
+
+    private static final int[] KING_ENDGAME = {
+            -50, -40, -30, -20, -20, -30, -40, -50,
+            -30, -20, -10, 0, 0, -10, -20, -30,
+            -30, -10, 20, 30, 30, 20, -10, -30,
+            -30, -10, 30, 40, 40, 30, -10, -30,
+            -30, -10, 30, 40, 40, 30, -10, -30,
+            -30, -10, 20, 30, 30, 20, -10, -30,
+            -30, -30, 0, 0, 0, 0, -30, -30,
+            -50, -30, -30, -30, -30, -30, -30, -50,
+    };
+
+    private static final int[] QUEEN = {
+            -20, -10, -10, -5, -5, -10, -10, -20,
+            -10, 0, 0, 0, 0, 0, 0, -10,
+            -10, 0, 5, 5, 5, 5, 0, -10,
+            -5, 0, 5, 5, 5, 5, 0, -5,
+            0, 0, 5, 5, 5, 5, 0, -5,
+            -10, 5, 5, 5, 5, 5, 0, -10,
+            -10, 0, 5, 0, 0, 0, 0, -10,
+            -20, -10, -10, -5, -5, -10, -10, -20,
+    };
+
+    private static final int[][][] MIDDLEGAME = new int[Piece.Colour.values().length][Piece.Type.values().length][64];
+    private static final int[][][] ENDGAME = new int[Piece.Colour.values().length][Piece.Type.values().length][64];
+
+    static {
+        int[][] middlegame = {PAWN, ROOK, KNIGHT, BISHOP, KING, QUEEN};
+        int[][] endgame = {PAWN_ENDGAME, ROOK, KNIGHT, BISHOP, KING_ENDGAME, QUEEN};
+        for (int type = 0; type < VALUES.length; type++) {
+            for (int square = 0; square < 64; square++) {
+                MIDDLEGAME[Piece.Colour.WHITE.ordinal()][type][square] = VALUES[type] + middlegame[type][square ^ 56];
+                MIDDLEGAME[Piece.Colour.BLACK.ordinal()][type][square] = -VALUES[type] - middlegame[type][square];
+                ENDGAME[Piece.Colour.WHITE.ordinal()][type][square] = VALUES[type] + endgame[type][square ^ 56];
+                ENDGAME[Piece.Colour.BLACK.ordinal()][type][square] = -VALUES[type] - endgame[type][square];
+            }
+        }
+    }
+
+    /** Scores the position for the given colour, positive when it is ahead. */
+    public static int evaluate(Board board, Piece.Colour colour) {
+        int phase = Math.min(board.getPhase(), MAX_PHASE);
+        int score = (board.getMiddlegame() * phase + board.getEndgame() * (MAX_PHASE - phase)) / MAX_PHASE;
+        score += side(board, Piece.Colour.WHITE, phase) - side(board, Piece.Colour.BLACK, phase);
+        return colour.equals(Piece.Colour.WHITE) ? score : -score;
+    }
+
+    private static int side(Board board, Piece.Colour colour, int phase) {
+        long occupancy = board.getOccupancy(), own = board.getOccupancy(colour);
+        long enemyKing = board.getBitboard(colour.opposite(), Piece.Type.KING);
+        long kingZone = enemyKing != 0 ? Bitboard.kingAttacks(Long.numberOfTrailingZeros(enemyKing)) | enemyKing : 0;
+
+        int score = 0, attackers = 0;
+        for (long pieces = own; pieces != 0; pieces &= pieces - 1) {
+            int square = Long.numberOfTrailingZeros(pieces);
+            Piece piece = board.byPosition(Position.bySquare(square));
+            int type = piece.getType().ordinal();
+
+            long attacks = attacks(piece.getType(), colour, square, occupancy);
+            score += Long.bitCount(attacks & ~own) * MOBILITY[type];
+            if ((attacks & kingZone) != 0) attackers++;
+
+            long remaining = piece.getCooldown() - piece.getTimeSinceLastMove();
+            if (remaining > 0) score -= (int) (COOLDOWN[type] * remaining / piece.getCooldown());
+        }
+        score += attackers * attackers * KING_ATTACK * phase / MAX_PHASE;
+
+        long king = board.getBitboard(colour, Piece.Type.KING);
+        if (king != 0) {
+            long shield = Bitboard.kingAttacks(Long.numberOfTrailingZeros(king)) & board.getBitboard(colour, Piece.Type.PAWN);
+            score += Math.min(3, Long.bitCount(shield)) * SHIELD * phase / MAX_PHASE;
+        }
+        return score;
+    }
+
+    private static long attacks(Piece.Type type, Piece.Colour colour, int square, long occupancy) {
+        switch (type) {
+            default:
+                return Bitboard.kingAttacks(square);
+            case PAWN:
+                return Bitboard.pawnAttacks(colour, square);
+            case ROOK:
+                return Bitboard.rookAttacks(square, occupancy);
+            case KNIGHT:
+                return Bitboard.knightAttacks(square);
+            case BISHOP:
+                return Bitboard.bishopAttacks(square, occupancy);
+            case QUEEN:
+                return Bitboard.queenAttacks(square, occupancy);
+        }
+    }
+
+    static int middlegame(Piece piece) {
+        return MIDDLEGAME[piece.getColour().ordinal()][piece.getType().ordinal()][piece.getSquare()];
+    }
+
+    static int endgame(Piece piece) {
+        return ENDGAME[piece.getColour().ordinal()][piece.getType().ordinal()][piece.getSquare()];
+    }
+
+    static int phase(Piece piece) {
+        return PHASES[piece.getType().ordinal()];
+    }
+}
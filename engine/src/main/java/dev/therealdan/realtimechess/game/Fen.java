@@ -0,0 +1,56 @@
+package dev.therealdan.realtimechess.game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Fen {
+
+    public static Board parse(String fen) {
+        return parse(fen, GameClock.SYSTEM);
+    }
+
+    public static Board parse(String fen, GameClock clock) {
+        String[] fields = fen.trim().split("\\s+");
+        Board board = new Board(clock);
+
+        List<Piece> pieces = new ArrayList<>();
+        int x = 1, y = 8;
+        for (char c : fields[0].toCharArray()) {
+            if (c == '/') {
+                x = 1;
+                y--;
+            } else if (Character.isDigit(c)) {
+                x += c - '0';
+            } else {
+                Piece.Type type = Piece.Type.byNotation(String.valueOf(Character.toUpperCase(c)));
+                Piece.Colour colour = Character.isUpperCase(c) ? Piece.Colour.WHITE : Piece.Colour.BLACK;
+                pieces.add(new Piece(type, colour, Position.byCoordinates(x++, y), clock));
+            }
+        }
+
+        board.setPieces(pieces);
+
+        long castles = 0;
+        if (fields.length > 2) {
+            for (char c : fields[2].toCharArray()) {
+                switch (c) {
+                    case 'K': castles |= 1L << 7; break;
+                    case 'Q': castles |= 1L; break;
+                    case 'k': castles |= 1L << 63; break;
+                    case 'q': castles |= 1L << 56; break;
+                }
+            }
+        }
+        board.setCastles(castles);
+
+        Position target = fields.length > 3 ? Position.byNotation(fields[3]) : null;
+        if (target != null)
+            board.setEnPassant(1L << (target.getSquare() + (target.getY() == 3 ? 8 : -8)));
+        return board;
+    }
+
+    public static Piece.Colour getColour(String fen) {
+        String[] fields = fen.trim().split("\\s+");
+        return fields.length > 1 && fields[1].equals("b") ? Piece.Colour.BLACK : Piece.Colour.WHITE;
+    }
+}
@@ -0,0 +1,8 @@
+package dev.therealdan.realtimechess.game;
+
+public interface GameClock {
+
+    GameClock SYSTEM = System::currentTimeMillis;
+
+    long millis();
+}
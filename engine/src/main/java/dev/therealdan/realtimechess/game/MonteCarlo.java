@@ -0,0 +1,280 @@
+package dev.therealdan.realtimechess.game;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class MonteCarlo {
+
+    private static final int PASS = Search.NONE;
+    private static final long PLY_TIME = 500;
+    private static final int PLAYOUT_PLIES = 32;
+    private static final int REUSE_DEPTH = 4;
+    private static final double EXPLORATION = 1.4;
+
+    private final ForkJoinPool pool;
+    private final int threads;
+
+    private Node root;
+    private long playouts, nanos;
+
+    public MonteCarlo(int threads) {
+        this.threads = Math.max(1, threads);
+        this.pool = new ForkJoinPool(this.threads);
+    }
+
+    public int search(Board board, Piece.Colour colour, long budget) {
+        long start = System.nanoTime();
+        long deadline = start + budget * 1_000_000L;
+
+        root = reuse(root, board.getHash(), colour);
+        if (root == null) root = new Node(null, PASS, colour, board.getHash());
+        root.parent = null;
+
+        List<ForkJoinTask<Long>> tasks = new ArrayList<>();
+        playouts = 0;
+        try {
+            for (int i = 0; i < threads; i++) {
+                VirtualClock clock = new VirtualClock(board.getClock().millis());
+                Board copy = board.copy(clock);
+                tasks.add(pool.submit(() -> {
+                    long count = 0;
+                    while (System.nanoTime() < deadline) {
+                        iterate(copy, clock);
+                        count++;
+                    }
+                    return count;
+                }));
+            }
+            for (ForkJoinTask<Long> task : tasks)
+                playouts += task.join();
+        } catch (RejectedExecutionException | CancellationException e) {
+            return PASS;
+        }
+        nanos = System.nanoTime() - start;
+
+        Node best = null;
+        Node[] children = root.children;
+        if (children != null)
+            for (Node child : children)
+                if ((best == null || child.visits > best.visits) && isPlayable(board, child.move)) best = child;
+        if (best == null) return PASS;
+        root = best;
+        return best.move;
+    }
+
+    private void iterate(Board board, VirtualClock clock) {
+        long time = clock.millis();
+        int made = 0;
+
+        Node node = root;
+        node.visit();
+        while (node.children != null && node.children.length > 0) {
+            node = select(node);
+            node.visit();
+            made += play(board, clock, node.move);
+        }
+
+        if (node.children == null) expand(node, board, clock);
+        double result = node.terminal >= 0 ? node.terminal : playout(board, clock, node.toMove);
+
+        for (int i = 0; i < made; i++)
+            board.unmake();
+        clock.set(time);
+
+        for (; node != null; node = node.parent)
+            node.update(node.parent == null || node.parent.toMove.equals(Piece.Colour.WHITE) ? result : 1 - result);
+    }
+
+    private Node select(Node node) {
+        double log = Math.log(Math.max(1, node.visits));
+        Node best = null;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (Node child : node.children) {
+            int visits = child.visits;
+            double value = visits == 0 ? Double.POSITIVE_INFINITY : child.score / visits + EXPLORATION * Math.sqrt(log / visits);
+            if (value > bestValue) {
+                bestValue = value;
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    private void expand(Node node, Board board, VirtualClock clock) {
+        synchronized (node) {
+            if (node.children != null) return;
+
+            MoveList moves = MoveList.buffer(1);
+            boolean legal = generate(board, node.toMove, moves);
+            Node[] children;
+            if (!legal) {
+                node.terminal = board.isChecked(node.toMove) ? (node.toMove.equals(Piece.Colour.WHITE) ? 0 : 1) : 0.5;
+                children = new Node[0];
+            } else if (moves.isEmpty()) {
+                clock.advance(PLY_TIME);
+                children = new Node[]{new Node(node, PASS, node.toMove.opposite(), board.getHash())};
+                clock.advance(-PLY_TIME);
+            } else if (capturesKing(board, moves)) {
+                node.terminal = node.toMove.equals(Piece.Colour.WHITE) ? 1 : 0;
+                children = new Node[0];
+            } else {
+                children = new Node[moves.size()];
+                for (int i = 0; i < moves.size(); i++) {
+                    int move = moves.get(i);
+                    play(board, clock, move);
+                    children[i] = new Node(node, move, node.toMove.opposite(), board.getHash());
+                    board.unmake();
+                    clock.advance(-PLY_TIME);
+                }
+            }
+            node.children = children;
+        }
+    }
+
+    /** Plays out the position with random moves, preferring captures, and returns the result for white. */
+    private double playout(Board board, VirtualClock clock, Piece.Colour toMove) {
+        long time = clock.millis();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        MoveList moves = MoveList.buffer(2);
+        int made = 0;
+        double result = -1;
+
+        for (int ply = 0; ply < PLAYOUT_PLIES; ply++, toMove = toMove.opposite()) {
+            moves.clear();
+            if (!generate(board, toMove, moves)) {
+                result = board.isChecked(toMove) ? (toMove.equals(Piece.Colour.WHITE) ? 0 : 1) : 0.5;
+                break;
+            }
+            if (moves.isEmpty()) {
+                clock.advance(PLY_TIME);
+                continue;
+            }
+
+            int move = moves.get(random.nextInt(moves.size()));
+            if (random.nextBoolean()) {
+                for (int i = 0, offset = random.nextInt(moves.size()); i < moves.size(); i++) {
+                    int capture = moves.get((i + offset) % moves.size());
+                    if (Move.is(capture, Move.CAPTURE)) {
+                        move = capture;
+                        break;
+                    }
+                }
+            }
+            if (isKingCapture(board, move)) {
+                result = toMove.equals(Piece.Colour.WHITE) ? 1 : 0;
+                break;
+            }
+            made += play(board, clock, move);
+        }
+
+        if (result < 0) result = 1 / (1 + Math.exp(-Evaluation.evaluate(board, Piece.Colour.WHITE) / 400d));
+        for (int i = 0; i < made; i++)
+            board.unmake();
+        clock.set(time);
+        return result;
+    }
+
+    private boolean isPlayable(Board board, int move) {
+        return move == PASS || !board.byPosition(Position.bySquare(Move.getFrom(move))).isOnCooldown();
+    }
+
+    private boolean capturesKing(Board board, MoveList moves) {
+        for (int i = 0; i < moves.size(); i++)
+            if (isKingCapture(board, moves.get(i))) return true;
+        return false;
+    }
+
+    private boolean isKingCapture(Board board, int move) {
+        if (!Move.is(move, Move.CAPTURE) || Move.is(move, Move.EN_PASSANT)) return false;
+        return board.byPosition(Position.bySquare(Move.getTo(move))).getType().equals(Piece.Type.KING);
+    }
+
+    private int play(Board board, VirtualClock clock, int move) {
+        clock.advance(PLY_TIME);
+        if (move == PASS) return 0;
+        board.make(move, Move.is(move, Move.PROMOTION) ? Piece.Type.QUEEN : null);
+        return 1;
+    }
+
+    /** Adds the moves of pieces off cooldown, returning false when the side has no legal moves at all. */
+    private boolean generate(Board board, Piece.Colour colour, MoveList moves) {
+        boolean legal = false;
+        for (long pieces = board.getOccupancy(colour); pieces != 0; pieces &= pieces - 1) {
+            Piece piece = board.byPosition(Position.bySquare(Long.numberOfTrailingZeros(pieces)));
+            if (board.getLegalTargets(piece) == 0) continue;
+            legal = true;
+            if (!piece.isOnCooldown())
+                board.getMoves(piece, moves);
+        }
+        return legal;
+    }
+
+    private Node reuse(Node root, long hash, Piece.Colour colour) {
+        if (root == null) return null;
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        ArrayDeque<Integer> depths = new ArrayDeque<>();
+        queue.add(root);
+        depths.add(0);
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            int depth = depths.poll();
+            if (node.hash == hash && node.toMove.equals(colour)) return node;
+            if (depth >= REUSE_DEPTH || node.children == null) continue;
+            for (Node child : node.children) {
+                queue.add(child);
+                depths.add(depth + 1);
+            }
+        }
+        return null;
+    }
+
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    public long getPlayouts() {
+        return playouts;
+    }
+
+    public long getPlayoutsPerSecond() {
+        return nanos > 0 ? playouts * 1_000_000_000L / nanos : 0;
+    }
+
+    public String getReport() {
+        return "threads " + threads + " playouts " + playouts + " pps " + getPlayoutsPerSecond() + " tree " + (root != null ? root.visits : 0);
+    }
+
+    private static class Node {
+
+        private Node parent;
+        private final int move;
+        private final Piece.Colour toMove;
+        private final long hash;
+
+        private volatile Node[] children;
+        private volatile double terminal = -1;
+        private volatile int visits;
+        private volatile double score;
+
+        private Node(Node parent, int move, Piece.Colour toMove, long hash) {
+            this.parent = parent;
+            this.move = move;
+            this.toMove = toMove;
+            this.hash = hash;
+        }
+
+        private synchronized void visit() {
+            visits++;
+        }
+
+        private synchronized void update(double result) {
+            score += result;
+        }
+    }
+}
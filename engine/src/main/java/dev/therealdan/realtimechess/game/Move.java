@@ -0,0 +1,34 @@
+package dev.therealdan.realtimechess.game;
+
+public class Move {
+
+    public static final int CAPTURE = 1;
+    public static final int EN_PASSANT = 2;
+    public static final int CASTLE = 4;
+    public static final int DOUBLE_PUSH = 8;
+    public static final int PROMOTION = 16;
+
+    public static int of(int from, int to, int flags) {
+        return from | to << 6 | flags << 12;
+    }
+
+    public static int getFrom(int move) {
+        return move & 63;
+    }
+
+    public static int getTo(int move) {
+        return move >>> 6 & 63;
+    }
+
+    public static int getFlags(int move) {
+        return move >>> 12;
+    }
+
+    public static boolean is(int move, int flag) {
+        return (getFlags(move) & flag) != 0;
+    }
+
+    public static String getNotation(int move) {
+        return Position.bySquare(getFrom(move)).getNotation() + Position.bySquare(getTo(move)).getNotation();
+    }
+}
@@ -0,0 +1,59 @@
+package dev.therealdan.realtimechess.game;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class MoveList {
+
+    private static final ThreadLocal<MoveList[]> buffers = ThreadLocal.withInitial(() -> new MoveList[0]);
+
+    private int[] moves = new int[64];
+    private int size = 0;
+
+    public void add(int move) {
+        if (size == moves.length)
+            moves = Arrays.copyOf(moves, size * 2);
+        moves[size++] = move;
+    }
+
+    public int get(int index) {
+        return moves[index];
+    }
+
+    public void set(int index, int move) {
+        moves[index] = move;
+    }
+
+    public void shuffle(Random random) {
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int move = moves[i];
+            moves[i] = moves[j];
+            moves[j] = move;
+        }
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public static MoveList buffer(int depth) {
+        MoveList[] lists = buffers.get();
+        if (depth >= lists.length) {
+            lists = Arrays.copyOf(lists, depth + 8);
+            buffers.set(lists);
+        }
+        if (lists[depth] == null)
+            lists[depth] = new MoveList();
+        lists[depth].clear();
+        return lists[depth];
+    }
+}
@@ -17,16 +17,16 @@ public class Notation {
         this.notation = piece.getType().getNotation() + piece.getPosition().getNotation() + position.getNotation();
 
         this.type = piece.getType();
-        this.from = piece.getPosition().copy();
-        this.to = position.copy();
+        this.from = piece.getPosition();
+        this.to = position;
     }
 
     public Notation(Piece pawn, Piece.Type promoteTo) {
         this.notation = pawn.getPosition().getNotation() + promoteTo.getNotation();
 
         this.type = promoteTo;
-        this.from = pawn.getPosition().copy();
-        this.to = pawn.getPosition().copy();
+        this.from = pawn.getPosition();
+        this.to = pawn.getPosition();
     }
 
     public Notation(Board board) {
@@ -0,0 +1,102 @@
+package dev.therealdan.realtimechess.game;
+
+public class Perft {
+
+    private static final Piece.Type[] PROMOTIONS = {Piece.Type.QUEEN, Piece.Type.ROOK, Piece.Type.BISHOP, Piece.Type.KNIGHT};
+
+    private static final Test[] TESTS = {
+        new Test("start", "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq -", 20, 400, 8902, 197281, 4865894),
+        new Test("kiwipete", "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq -", 48, 2043, 98196, 4113016),
+        new Test("endgame", "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - -", 14, 191, 2812, 43373, 677658),
+        new Test("promotions", "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq -", 6, 264, 9467, 423325),
+        new Test("middlegame", "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ -", 44, 1486, 62478, 2107464)
+    };
+
+    public static long count(Board board, Piece.Colour colour, int depth) {
+        if (depth == 0) return 1;
+
+        MoveList moves = generate(board, colour, MoveList.buffer(depth));
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            if (Move.is(move, Move.PROMOTION)) {
+                for (Piece.Type type : PROMOTIONS) {
+                    board.make(move, type);
+                    nodes += count(board, colour.opposite(), depth - 1);
+                    board.unmake();
+                }
+            } else if (depth == 1) {
+                nodes++;
+            } else {
+                board.make(move);
+                nodes += count(board, colour.opposite(), depth - 1);
+                board.unmake();
+            }
+        }
+        return nodes;
+    }
+
+    public static MoveList generate(Board board, Piece.Colour colour, MoveList moves) {
+        for (long pieces = board.getOccupancy(colour); pieces != 0; pieces &= pieces - 1)
+            board.getMoves(board.byPosition(Position.bySquare(Long.numberOfTrailingZeros(pieces))), moves);
+        return moves;
+    }
+
+    public static void divide(String fen, int depth) {
+        Board board = Fen.parse(fen);
+        Piece.Colour colour = Fen.getColour(fen);
+        MoveList moves = generate(board, colour, new MoveList());
+        long total = 0, start = System.nanoTime();
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            for (Piece.Type type : Move.is(move, Move.PROMOTION) ? PROMOTIONS : new Piece.Type[]{null}) {
+                board.make(move, type);
+                long nodes = count(board, colour.opposite(), depth - 1);
+                board.unmake();
+                total += nodes;
+                System.out.println(Move.getNotation(move) + (type != null ? type.getNotation().toLowerCase() : "") + ": " + nodes);
+            }
+        }
+        print("total", depth, total, -1, System.nanoTime() - start);
+    }
+
+    public static boolean run() {
+        boolean passed = true;
+        for (Test test : TESTS) {
+            for (int depth = 1; depth <= test.counts.length; depth++) {
+                Board board = Fen.parse(test.fen);
+                long start = System.nanoTime();
+                long nodes = count(board, Fen.getColour(test.fen), depth);
+                print(test.name, depth, nodes, test.counts[depth - 1], System.nanoTime() - start);
+                passed &= nodes == test.counts[depth - 1];
+            }
+        }
+        return passed;
+    }
+
+    private static void print(String name, int depth, long nodes, long expected, long nanos) {
+        String result = expected < 0 ? "" : nodes == expected ? " ok" : " FAILED (expected " + expected + ")";
+        System.out.printf("%-12s depth %d: %,d nodes in %,d ms (%,d nodes/s)%s%n", name, depth, nodes, nanos / 1000000, nodes * 1000000000L / Math.max(1, nanos), result);
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            if (!run()) System.exit(1);
+            return;
+        }
+        divide(args.length > 1 ? args[1] : TESTS[0].fen, Integer.parseInt(args[0]));
+    }
+
+    private static class Test {
+
+        private String name;
+        private String fen;
+        private long[] counts;
+
+        private Test(String name, String fen, long... counts) {
+            this.name = name;
+            this.fen = fen;
+            this.counts = counts;
+        }
+    }
+}
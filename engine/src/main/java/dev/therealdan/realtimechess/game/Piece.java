@@ -0,0 +1,144 @@
+package dev.therealdan.realtimechess.game;
+
+public class Piece {
+
+    private Type type;
+    private Colour colour;
+    private int square;
+
+    private long lastMove;
+    private GameClock clock;
+
+    public Piece(Type type, Colour colour, Position position) {
+        this(type, colour, position, GameClock.SYSTEM);
+    }
+
+    public Piece(Type type, Colour colour, Position position, GameClock clock) {
+        this(type, colour, position, 0, clock);
+        resetCooldown();
+    }
+
+    public Piece(Type type, Colour colour, Position position, long lastMove) {
+        this(type, colour, position, lastMove, GameClock.SYSTEM);
+    }
+
+    public Piece(Type type, Colour colour, Position position, long lastMove, GameClock clock) {
+        this.type = type;
+        this.colour = colour;
+        this.square = position.getSquare();
+        this.lastMove = lastMove;
+        this.clock = clock;
+    }
+
+    public void moved() {
+        lastMove = clock.millis();
+    }
+
+    public void resetCooldown() {
+        lastMove = clock.millis() - getCooldown();
+    }
+
+    public void setColour(Colour colour) {
+        this.colour = colour;
+    }
+
+    public boolean isStartPosition() {
+        switch (getType()) {
+            case PAWN:
+                return square / 8 == (getColour().equals(Colour.BLACK) ? 6 : 1);
+        }
+        return false;
+    }
+
+    public boolean isOnCooldown() {
+        return getTimeSinceLastMove() < getCooldown();
+    }
+
+    public long getCooldown() {
+        switch (getType()) {
+            default:
+                return 3000;
+            case KING:
+            case PAWN:
+                return 1500;
+            case KNIGHT:
+                return 1000;
+        }
+    }
+
+    void setLastMove(long lastMove) {
+        this.lastMove = lastMove;
+    }
+
+    long getLastMove() {
+        return lastMove;
+    }
+
+    public long getTimeSinceLastMove() {
+        return clock.millis() - lastMove;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Colour getColour() {
+        return colour;
+    }
+
+    public Position getPosition() {
+        return Position.bySquare(square);
+    }
+
+    void setSquare(int square) {
+        this.square = square;
+    }
+
+    public int getSquare() {
+        return square;
+    }
+
+    public Piece copy() {
+        return copy(clock);
+    }
+
+    public Piece copy(GameClock clock) {
+        return new Piece(type, colour, getPosition(), lastMove, clock);
+    }
+
+    public enum Type {
+        PAWN, ROOK, KNIGHT, BISHOP, KING, QUEEN;
+
+        public String getNotation() {
+            if (equals(KNIGHT)) return "N";
+            return toString().substring(0, 1);
+        }
+
+        public static Type byNotation(String notation) {
+            for (Type type : Type.values())
+                if (type.getNotation().equals(notation))
+                    return type;
+            return null;
+        }
+    }
+
+    public enum Colour {
+        BLACK, WHITE,
+        NONE;
+
+        public Colour opposite() {
+            return equals(BLACK) ? WHITE : BLACK;
+        }
+
+        public String getNotation() {
+            return equals(BLACK) ? "B" : "W";
+        }
+
+        public static Colour byNotation(String notation) {
+            for (Colour colour : Colour.values())
+                if (colour.getNotation().equals(notation))
+                    return colour;
+            return null;
+        }
+    }
+}
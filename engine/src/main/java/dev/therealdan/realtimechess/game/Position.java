@@ -0,0 +1,67 @@
+package dev.therealdan.realtimechess.game;
+
+public class Position {
+
+    public static String letters = "abcdefgh";
+
+    private static final Position[] positions = new Position[64];
+
+    static {
+        for (int square = 0; square < 64; square++)
+            positions[square] = new Position(square);
+    }
+
+    private final int square;
+    private final String letter;
+    private final int number;
+    private final String notation;
+
+    private Position(int square) {
+        this.square = square;
+        this.letter = letters.substring(square % 8, square % 8 + 1);
+        this.number = square / 8 + 1;
+        this.notation = letter + number;
+    }
+
+    public String getLetter() {
+        return letter;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public int getX() {
+        return square % 8 + 1;
+    }
+
+    public int getY() {
+        return number;
+    }
+
+    public int getSquare() {
+        return square;
+    }
+
+    public String getNotation() {
+        return notation;
+    }
+
+    public boolean equals(Position position) {
+        return position != null && getSquare() == position.getSquare();
+    }
+
+    public static Position bySquare(int square) {
+        return positions[square];
+    }
+
+    public static Position byCoordinates(int x, int y) {
+        if (x < 1 || x > 8 || y < 1 || y > 8) return null;
+        return positions[(y - 1) * 8 + x - 1];
+    }
+
+    public static Position byNotation(String notation) {
+        if (notation == null || notation.length() != 2) return null;
+        return byCoordinates(letters.indexOf(notation.charAt(0)) + 1, notation.charAt(1) - '0');
+    }
+}
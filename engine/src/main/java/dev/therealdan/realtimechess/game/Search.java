@@ -0,0 +1,254 @@
+package dev.therealdan.realtimechess.game;
+
+import java.util.Arrays;
+
+public class Search {
+
+    public static final int NONE = -1;
+    public static final int MATE = 100000;
+
+    private static final int INFINITY = MATE + 1;
+    private static final int MAX_PLY = 64;
+    private static final long PLY_TIME = 500;
+    private static final int KING_VALUE = 20000;
+
+    private int[][] scores = new int[MAX_PLY + 1][64];
+    private final TranspositionTable table;
+
+    private VirtualClock clock;
+    private long deadline;
+    private boolean aborted;
+
+    private long nodes, nanos;
+    private int depth, score;
+
+    public Search() {
+        this(new TranspositionTable(16));
+    }
+
+    public Search(TranspositionTable table) {
+        this.table = table;
+    }
+
+    public int search(Board board, Piece.Colour colour, long budget) {
+        long start = System.nanoTime();
+        deadline = start + budget * 1_000_000L;
+        aborted = false;
+        nodes = 0;
+        depth = 0;
+        score = 0;
+
+        clock = new VirtualClock(board.getClock().millis());
+        board = board.copy(clock);
+        table.age();
+
+        MoveList moves = generate(board, colour, 0);
+        int best = NONE;
+        for (int iteration = 1; moves != null && iteration <= MAX_PLY && !aborted; iteration++) {
+            int alpha = -INFINITY, bestThisIteration = NONE;
+            order(board, moves, 0, best);
+            for (int i = 0; i < moves.size(); i++) {
+                int move = next(moves, 0, i);
+                int value = isKingCapture(board, move) ? MATE : -child(board, colour, move, iteration - 1, 1, -INFINITY, -alpha);
+                if (aborted) break;
+                if (value > alpha) {
+                    alpha = value;
+                    bestThisIteration = move;
+                }
+            }
+            if (bestThisIteration == NONE) break;
+            best = bestThisIteration;
+            if (!aborted) {
+                depth = iteration;
+                score = alpha;
+            }
+            if (Math.abs(alpha) >= MATE - MAX_PLY) break;
+        }
+
+        nanos = System.nanoTime() - start;
+        return best;
+    }
+
+    private int negamax(Board board, Piece.Colour colour, int depth, int ply, int alpha, int beta) {
+        if (depth <= 0 || ply >= MAX_PLY) return quiesce(board, colour, ply, alpha, beta);
+        if (tick()) return 0;
+
+        long key = board.getHash() ^ Zobrist.turn(colour);
+        long entry = table.probe(key);
+        int hashMove = NONE;
+        if (entry != TranspositionTable.MISS) {
+            hashMove = TranspositionTable.getMove(entry);
+            if (TranspositionTable.getDepth(entry) >= depth) {
+                int stored = fromTable(TranspositionTable.getScore(entry), ply);
+                switch (TranspositionTable.getBound(entry)) {
+                    case TranspositionTable.EXACT:
+                        return stored;
+                    case TranspositionTable.LOWER:
+                        if (stored >= beta) return stored;
+                        break;
+                    case TranspositionTable.UPPER:
+                        if (stored <= alpha) return stored;
+                        break;
+                }
+            }
+        }
+
+        MoveList moves = generate(board, colour, ply);
+        if (moves == null) return board.isChecked(colour) ? -MATE + ply : 0;
+        if (moves.isEmpty()) return pass(board, colour, depth, ply, alpha, beta);
+
+        int originalAlpha = alpha, best = NONE, bestValue = -INFINITY;
+        order(board, moves, ply, hashMove);
+        for (int i = 0; i < moves.size(); i++) {
+            int move = next(moves, ply, i);
+            if (isKingCapture(board, move)) return MATE - ply;
+            int value = -child(board, colour, move, depth - 1, ply + 1, -beta, -alpha);
+            if (aborted) return 0;
+            if (value > bestValue) {
+                bestValue = value;
+                best = move;
+            }
+            if (value > alpha) alpha = value;
+            if (alpha >= beta) break;
+        }
+
+        int bound = bestValue >= beta ? TranspositionTable.LOWER : bestValue > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER;
+        table.store(key, best, toTable(bestValue, ply), depth, bound);
+        return bestValue;
+    }
+
+    private int quiesce(Board board, Piece.Colour colour, int ply, int alpha, int beta) {
+        if (tick()) return 0;
+
+        int standPat = Evaluation.evaluate(board, colour);
+        if (standPat >= beta || ply >= MAX_PLY) return standPat;
+        if (standPat > alpha) alpha = standPat;
+
+        MoveList moves = generate(board, colour, ply);
+        if (moves == null || moves.isEmpty()) return alpha;
+
+        order(board, moves, ply, NONE);
+        for (int i = 0; i < moves.size(); i++) {
+            int move = next(moves, ply, i);
+            if (!Move.is(move, Move.CAPTURE | Move.PROMOTION)) continue;
+            if (isKingCapture(board, move)) return MATE - ply;
+            board.make(move, Move.is(move, Move.PROMOTION) ? Piece.Type.QUEEN : null);
+            clock.advance(PLY_TIME);
+            int value = -quiesce(board, colour.opposite(), ply + 1, -beta, -alpha);
+            clock.advance(-PLY_TIME);
+            board.unmake();
+            if (aborted) return 0;
+            if (value >= beta) return value;
+            if (value > alpha) alpha = value;
+        }
+        return alpha;
+    }
+
+    private int child(Board board, Piece.Colour colour, int move, int depth, int ply, int alpha, int beta) {
+        board.make(move, Move.is(move, Move.PROMOTION) ? Piece.Type.QUEEN : null);
+        clock.advance(PLY_TIME);
+        int value = negamax(board, colour.opposite(), depth, ply, alpha, beta);
+        clock.advance(-PLY_TIME);
+        board.unmake();
+        return value;
+    }
+
+    private int pass(Board board, Piece.Colour colour, int depth, int ply, int alpha, int beta) {
+        clock.advance(PLY_TIME);
+        int value = -negamax(board, colour.opposite(), depth - 1, ply + 1, -beta, -alpha);
+        clock.advance(-PLY_TIME);
+        return value;
+    }
+
+    private int toTable(int score, int ply) {
+        return score >= MATE - MAX_PLY ? score + ply : score <= -MATE + MAX_PLY ? score - ply : score;
+    }
+
+    private int fromTable(int score, int ply) {
+        return score >= MATE - MAX_PLY ? score - ply : score <= -MATE + MAX_PLY ? score + ply : score;
+    }
+
+    private boolean tick() {
+        if ((++nodes & 1023) == 0 && System.nanoTime() > deadline) aborted = true;
+        return aborted;
+    }
+
+    /** Moves of the pieces that are off cooldown, or null when the side has no legal moves at all. */
+    private MoveList generate(Board board, Piece.Colour colour, int ply) {
+        MoveList moves = MoveList.buffer(ply + 1);
+        boolean legal = false;
+        for (long pieces = board.getOccupancy(colour); pieces != 0; pieces &= pieces - 1) {
+            Piece piece = board.byPosition(Position.bySquare(Long.numberOfTrailingZeros(pieces)));
+            if (board.getLegalTargets(piece) == 0) continue;
+            legal = true;
+            if (!piece.isOnCooldown())
+                board.getMoves(piece, moves);
+        }
+        return legal ? moves : null;
+    }
+
+    private void order(Board board, MoveList moves, int ply, int best) {
+        if (scores[ply].length < moves.size())
+            scores[ply] = Arrays.copyOf(scores[ply], moves.size() * 2);
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            scores[ply][i] = move == best ? Integer.MAX_VALUE : score(board, move);
+        }
+    }
+
+    private int score(Board board, int move) {
+        Piece piece = board.byPosition(Position.bySquare(Move.getFrom(move)));
+        int score = 0;
+        if (Move.is(move, Move.EN_PASSANT)) {
+            score += 100000 + value(Piece.Type.PAWN) * 10;
+        } else if (Move.is(move, Move.CAPTURE)) {
+            Piece victim = board.byPosition(Position.bySquare(Move.getTo(move)));
+            score += 100000 + value(victim.getType()) * 10 - value(piece.getType()) / 10;
+            if (victim.isOnCooldown()) score += 500;
+        }
+        if (Move.is(move, Move.PROMOTION)) score += 90000;
+        return score - (int) (piece.getCooldown() / 100);
+    }
+
+    private int value(Piece.Type type) {
+        return type.equals(Piece.Type.KING) ? KING_VALUE : Evaluation.VALUES[type.ordinal()];
+    }
+
+    private int next(MoveList moves, int ply, int index) {
+        int[] scores = this.scores[ply];
+        int best = index;
+        for (int i = index + 1; i < moves.size(); i++)
+            if (scores[i] > scores[best]) best = i;
+        int move = moves.get(best), score = scores[best];
+        moves.set(best, moves.get(index));
+        scores[best] = scores[index];
+        moves.set(index, move);
+        scores[index] = score;
+        return move;
+    }
+
+    private boolean isKingCapture(Board board, int move) {
+        if (!Move.is(move, Move.CAPTURE) || Move.is(move, Move.EN_PASSANT)) return false;
+        return board.byPosition(Position.bySquare(Move.getTo(move))).getType().equals(Piece.Type.KING);
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getNodesPerSecond() {
+        return nanos > 0 ? nodes * 1_000_000_000L / nanos : 0;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public String getReport() {
+        return "depth " + depth + " score " + score + " nodes " + nodes + " nps " + getNodesPerSecond() + " tt " + table.getHits() + "/" + (table.getHits() + table.getMisses());
+    }
+}
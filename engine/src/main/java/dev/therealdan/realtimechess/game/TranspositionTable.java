@@ -0,0 +1,106 @@
+package dev.therealdan.realtimechess.game;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Entries are two longs, the key xor'd with the data followed by the data, so a read racing a write
+ * from another thread fails the key check instead of returning a torn entry.
+ */
+public class TranspositionTable {
+
+    public static final long MISS = 0;
+
+    public static final int EXACT = 1;
+    public static final int LOWER = 2;
+    public static final int UPPER = 3;
+
+    private static final int ENTRY_BYTES = 16;
+    private static final int HEAP_FRACTION = 16;
+    private static final int SCORE_OFFSET = 1 << 20;
+
+    private final long[] entries;
+    private final int mask;
+    private int age = 0;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    public TranspositionTable(int megabytes) {
+        long bytes = Math.min((long) Math.max(1, megabytes) * 1024 * 1024, Runtime.getRuntime().maxMemory() / HEAP_FRACTION);
+        int size = Integer.highestOneBit((int) Math.max(1, Math.min(bytes / ENTRY_BYTES, 1 << 24)));
+        entries = new long[size * 2];
+        mask = size - 1;
+    }
+
+    public long probe(long key) {
+        int index = ((int) key & mask) * 2;
+        long data = entries[index + 1];
+        if (data != MISS && (entries[index] ^ data) == key) {
+            hits.increment();
+            return data;
+        }
+        misses.increment();
+        return MISS;
+    }
+
+    public void store(long key, int move, int score, int depth, int bound) {
+        int index = ((int) key & mask) * 2;
+        long existing = entries[index + 1];
+        if (existing != MISS && getAge(existing) == age && (entries[index] ^ existing) != key && getDepth(existing) > depth) return;
+
+        long data = (move + 1L) | (long) (score + SCORE_OFFSET) << 18 | (long) Math.min(depth, 127) << 39 | (long) bound << 46 | (long) age << 48;
+        entries[index] = key ^ data;
+        entries[index + 1] = data;
+        stores.increment();
+    }
+
+    /** Starts a new search, letting entries from earlier searches be replaced regardless of depth. */
+    public void age() {
+        age = (age + 1) & 255;
+    }
+
+    public void clear() {
+        Arrays.fill(entries, 0);
+        hits.reset();
+        misses.reset();
+        stores.reset();
+    }
+
+    public static int getMove(long data) {
+        return (int) (data & 0x3FFFF) - 1;
+    }
+
+    public static int getScore(long data) {
+        return (int) (data >>> 18 & 0x1FFFFF) - SCORE_OFFSET;
+    }
+
+    public static int getDepth(long data) {
+        return (int) (data >>> 39 & 127);
+    }
+
+    public static int getBound(long data) {
+        return (int) (data >>> 46 & 3);
+    }
+
+    private static int getAge(long data) {
+        return (int) (data >>> 48 & 255);
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getStores() {
+        return stores.sum();
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,40 @@
+package dev.therealdan.realtimechess.game;
+
+public class Undo {
+
+    Piece piece;
+    int from, to;
+    long lastMove;
+
+    Piece captured;
+    Piece enPassantCaptured;
+    Piece promotion;
+
+    Piece rook;
+    int rookFrom;
+    long rookLastMove;
+
+    Piece[] bishops = new Piece[10];
+    long[] bishopLastMoves = new long[10];
+    int bishopCount;
+
+    long enPassant;
+    long castles;
+    long hash;
+
+    public Piece getPiece() {
+        return piece;
+    }
+
+    public Piece getCaptured() {
+        return captured != null ? captured : enPassantCaptured;
+    }
+
+    public Position getFrom() {
+        return Position.bySquare(from);
+    }
+
+    public Position getTo() {
+        return Position.bySquare(to);
+    }
+}
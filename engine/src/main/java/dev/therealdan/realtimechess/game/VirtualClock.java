@@ -0,0 +1,27 @@
+package dev.therealdan.realtimechess.game;
+
+public class VirtualClock implements GameClock {
+
+    private long millis;
+
+    public VirtualClock() {
+        this(0);
+    }
+
+    public VirtualClock(long millis) {
+        this.millis = millis;
+    }
+
+    public void advance(long millis) {
+        this.millis += millis;
+    }
+
+    public void set(long millis) {
+        this.millis = millis;
+    }
+
+    @Override
+    public long millis() {
+        return millis;
+    }
+}
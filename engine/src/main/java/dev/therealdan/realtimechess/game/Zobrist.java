@@ -0,0 +1,60 @@
+package dev.therealdan.realtimechess.game;
+
+public class Zobrist {
+
+    public static final long COOLDOWN_BUCKET = 250;
+
+    private static final long[][][] PIECES = new long[Piece.Colour.values().length][Piece.Type.values().length][64];
+    private static final long[] CASTLES = new long[64];
+    private static final long[] EN_PASSANT = new long[64];
+    private static final long TURN;
+
+    static {
+        long seed = 0;
+        for (long[][] colour : PIECES)
+            for (long[] type : colour)
+                for (int square = 0; square < 64; square++)
+                    type[square] = mix(++seed);
+        for (int square = 0; square < 64; square++) {
+            CASTLES[square] = mix(++seed);
+            EN_PASSANT[square] = mix(++seed);
+        }
+        TURN = mix(++seed);
+    }
+
+    public static long piece(Piece piece) {
+        return PIECES[piece.getColour().ordinal()][piece.getType().ordinal()][piece.getSquare()];
+    }
+
+    public static long cooldown(Piece piece, long millis) {
+        long remaining = piece.getLastMove() + piece.getCooldown() - millis;
+        if (remaining <= 0) return 0;
+        return mix(piece(piece) ^ (remaining + COOLDOWN_BUCKET - 1) / COOLDOWN_BUCKET);
+    }
+
+    public static long castles(long castles) {
+        return squares(CASTLES, castles);
+    }
+
+    public static long enPassant(long enPassant) {
+        return squares(EN_PASSANT, enPassant);
+    }
+
+    public static long turn(Piece.Colour colour) {
+        return mix(TURN ^ colour.ordinal());
+    }
+
+    private static long squares(long[] keys, long squares) {
+        long key = 0;
+        for (; squares != 0; squares &= squares - 1)
+            key ^= keys[Long.numberOfTrailingZeros(squares)];
+        return key;
+    }
+
+    private static long mix(long z) {
+        z = (z + 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}